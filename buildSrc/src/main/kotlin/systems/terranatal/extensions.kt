@@ -34,13 +34,17 @@ import gradle.kotlin.dsl.accessors._ef75a60ead13a537a1cba035154c8ec4.publishing
 import gradle.kotlin.dsl.accessors._ef75a60ead13a537a1cba035154c8ec4.signing
 import org.gradle.api.Project
 import org.gradle.api.component.SoftwareComponent
+import org.gradle.api.file.FileCollection
 import org.gradle.api.publish.PublishingExtension
 import org.gradle.api.publish.maven.MavenPublication
+import org.gradle.api.tasks.JavaExec
 import org.gradle.api.tasks.TaskProvider
 import org.gradle.api.tasks.bundling.Jar
 import org.gradle.kotlin.dsl.create
 import org.gradle.kotlin.dsl.get
 import org.gradle.kotlin.dsl.getByType
+import org.gradle.kotlin.dsl.register
+import java.io.File
 
 internal fun Project.allSignParametersPresent(): Boolean {
   val signKeyId = providers.gradleProperty("signing.keyId").isPresent
@@ -110,3 +114,27 @@ fun Project.generateMvnPublication(
     }
   }
 }
+
+/**
+ * Registers a task compiling the YAML and properties bundles of [sourceDir] into the binary format of
+ * BinaryResourceBundle, written to [outputDir]. [classpath] must contain the internationalization module.
+ */
+fun Project.registerBundleCompilation(
+  taskName: String,
+  sourceDir: File,
+  outputDir: File,
+  classpath: FileCollection,
+  charset: String = "UTF-8"): TaskProvider<JavaExec> {
+  return tasks.register<JavaExec>(taskName) {
+    group = "build"
+    description = "Compiles the resource bundles of $sourceDir into binary bundles"
+    this.classpath = classpath
+    mainClass.set("systems.terranatal.omnijfx.internationalization.binary.BundleCompiler")
+    args(sourceDir.absolutePath, outputDir.absolutePath, charset)
+    inputs.dir(sourceDir)
+    outputs.dir(outputDir)
+    doFirst {
+      outputDir.mkdirs()
+    }
+  }
+}
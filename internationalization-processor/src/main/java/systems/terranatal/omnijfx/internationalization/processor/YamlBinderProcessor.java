@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a {@code YamlBinder} for each class annotated with {@code YamlBound}. The generated binders walk
+ * the composed YAML nodes and fill the objects like SnakeYAML's {@code BeanAccess.FIELD} binding does, writing
+ * the fields directly, so loading them needs neither reflection nor SnakeYAML's {@code Constructor} and
+ * {@code TypeDescription} setup. Since generated code cannot write private fields, those are filled through
+ * their setters instead, and a private field without a setter is an error.
+ * <p>Only a subset of the types the reflective binding handles is supported: {@code boolean}, {@code int},
+ * {@code long}, {@code double}, their wrappers, {@link String}, enums, other {@code YamlBound} classes, and
+ * {@link List}s and {@link java.util.Map}s with {@link String} keys of those. {@code float}, {@code short},
+ * {@code char}, {@link Set}s, arrays and {@link java.math.BigDecimal} are reported as errors, and {@code <<}
+ * merge keys are not expanded, they are handled like any other unknown key.</p>
+ * <p>This processor refers to the annotation by name only, so it does not depend on the internationalization
+ * module; the generated code does.</p>
+ */
+@SupportedAnnotationTypes(YamlBinderProcessor.YAML_BOUND)
+public class YamlBinderProcessor extends AbstractProcessor {
+  static final String YAML_BOUND = "systems.terranatal.omnijfx.internationalization.yaml.YamlBound";
+  private static final String YAML_PACKAGE = "systems.terranatal.omnijfx.internationalization.yaml";
+  private static final String NODES = YAML_PACKAGE + ".YamlNodes";
+  private static final String SUFFIX = "_YamlBinder";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (var annotation : annotations) {
+      for (var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (element.getKind() != ElementKind.CLASS) {
+          error("@YamlBound can only be applied to classes", element);
+        } else {
+          generate((TypeElement) element);
+        }
+      }
+    }
+    return true;
+  }
+
+  private Messager messager() {
+    return processingEnv.getMessager();
+  }
+
+  private void error(String message, Element element) {
+    messager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  private void generate(TypeElement type) {
+    if (!isInstantiable(type)) {
+      return;
+    }
+    var lines = new ArrayList<String>();
+    var valid = true;
+    for (var field : ElementFilter.fieldsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+      var modifiers = field.getModifiers();
+      if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+        continue;
+      }
+      var statement = bindField(type, field);
+      if (statement == null) {
+        valid = false;
+      } else {
+        lines.add("        case \"%s\" -> %s;".formatted(field.getSimpleName(), statement));
+      }
+    }
+    if (valid) {
+      write(type, lines);
+    }
+  }
+
+  private boolean isInstantiable(TypeElement type) {
+    if (type.getModifiers().contains(Modifier.ABSTRACT) || !type.getTypeParameters().isEmpty()) {
+      error("@YamlBound classes must be concrete and not generic", type);
+      return false;
+    }
+    for (Element enclosing = type; enclosing.getKind().isClass(); enclosing = enclosing.getEnclosingElement()) {
+      var typeElement = (TypeElement) enclosing;
+      if (typeElement.getModifiers().contains(Modifier.PRIVATE)
+          || typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC)) {
+        error("@YamlBound classes must be accessible from their package and nested ones must be static", type);
+        return false;
+      }
+    }
+    var constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+    var noArgs = constructors.stream()
+        .anyMatch(constructor -> constructor.getParameters().isEmpty()
+            && !constructor.getModifiers().contains(Modifier.PRIVATE));
+    if (!noArgs) {
+      error("@YamlBound classes need a non-private constructor without parameters", type);
+    }
+    return noArgs;
+  }
+
+  /**
+   * Builds the statement assigning the value node to the field, or returns null after reporting an error
+   */
+  private String bindField(TypeElement type, VariableElement field) {
+    var value = expression(field.asType(), "value", 0);
+    if (value == null) {
+      error("Unsupported type %s of field %s".formatted(field.asType(), field.getSimpleName()), field);
+      return null;
+    }
+    if (isWritable(type, field)) {
+      return "target.%s = %s".formatted(field.getSimpleName(), value);
+    }
+    var setter = setterOf(type, field);
+    if (setter == null) {
+      error("Field %s needs a setter or must be neither private nor final".formatted(field.getSimpleName()), field);
+      return null;
+    }
+    return "target.%s(%s)".formatted(setter.getSimpleName(), value);
+  }
+
+  /**
+   * Checks if the generated binder, which is in the package of the type, can assign the field directly
+   */
+  private boolean isWritable(TypeElement type, VariableElement field) {
+    var modifiers = field.getModifiers();
+    if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)) {
+      return false;
+    }
+    var declaringType = (TypeElement) field.getEnclosingElement();
+    return modifiers.contains(Modifier.PUBLIC) && declaringType.getModifiers().contains(Modifier.PUBLIC)
+        || packageOf(declaringType).equals(packageOf(type));
+  }
+
+  private ExecutableElement setterOf(TypeElement type, VariableElement field) {
+    var name = field.getSimpleName().toString();
+    var setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    var types = processingEnv.getTypeUtils();
+    for (var method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+      if (method.getSimpleName().contentEquals(setterName)
+          && method.getParameters().size() == 1
+          && types.isSameType(method.getParameters().get(0).asType(), field.asType())
+          && !method.getModifiers().contains(Modifier.PRIVATE)
+          && !method.getModifiers().contains(Modifier.STATIC)) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Builds the expression converting the node held by the given variable into the given type
+   *
+   * @return the expression, or null if the type is not supported
+   */
+  private String expression(TypeMirror type, String node, int depth) {
+    switch (type.getKind()) {
+      case BOOLEAN:
+        return required("toBoolean", node);
+      case INT:
+        return required("toInteger", node);
+      case LONG:
+        return required("toLong", node);
+      case DOUBLE:
+        return required("toDouble", node);
+      case DECLARED:
+        return declaredExpression((DeclaredType) type, node, depth);
+      default:
+        return null;
+    }
+  }
+
+  private static String required(String conversion, String node) {
+    return "%s.required(%s.%s(%s), %s)".formatted(NODES, NODES, conversion, node, node);
+  }
+
+  private String declaredExpression(DeclaredType type, String node, int depth) {
+    var element = (TypeElement) type.asElement();
+    var name = element.getQualifiedName().toString();
+    var arguments = type.getTypeArguments();
+    switch (name) {
+      case "java.lang.String":
+        return "%s.string(%s)".formatted(NODES, node);
+      case "java.lang.Boolean":
+        return "%s.toBoolean(%s)".formatted(NODES, node);
+      case "java.lang.Integer":
+        return "%s.toInteger(%s)".formatted(NODES, node);
+      case "java.lang.Long":
+        return "%s.toLong(%s)".formatted(NODES, node);
+      case "java.lang.Double":
+        return "%s.toDouble(%s)".formatted(NODES, node);
+      case "java.util.List":
+        return collectionExpression("list", arguments.isEmpty() ? null : arguments.get(0), node, depth);
+      case "java.util.Map":
+        if (arguments.size() != 2 || !isString(arguments.get(0))) {
+          return null;
+        }
+        return collectionExpression("map", arguments.get(1), node, depth);
+      default:
+        if (element.getKind() == ElementKind.ENUM) {
+          return "%s.scalar(%s, %s::valueOf)".formatted(NODES, node, name);
+        }
+        if (isBound(element)) {
+          return "%s.INSTANCE.bind(%s)".formatted(binderName(element), node);
+        }
+        return null;
+    }
+  }
+
+  private String collectionExpression(String method, TypeMirror elementType, String node, int depth) {
+    if (elementType == null || elementType.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    var variable = "element" + depth;
+    var element = expression(elementType, variable, depth + 1);
+    return element == null ? null : "%s.%s(%s, %s -> %s)".formatted(NODES, method, node, variable, element);
+  }
+
+  private static boolean isString(TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED
+        && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals("java.lang.String");
+  }
+
+  private static boolean isBound(Element element) {
+    return element.getAnnotationMirrors().stream().anyMatch(mirror ->
+        ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(YAML_BOUND));
+  }
+
+  private static boolean ignoresUnknown(TypeElement type, Elements elements) {
+    for (var mirror : type.getAnnotationMirrors()) {
+      if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(YAML_BOUND)) {
+        for (var entry : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+          if (entry.getKey().getSimpleName().contentEquals("ignoreUnknown")) {
+            return Boolean.TRUE.equals(entry.getValue().getValue());
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * The qualified name of the binder, e.g. {@code com.example.Outer_Inner_YamlBinder} for {@code com.example.Outer.Inner}
+   */
+  private String binderName(TypeElement type) {
+    var packageName = packageOf(type);
+    var nested = type.getQualifiedName().toString();
+    if (!packageName.isEmpty()) {
+      nested = nested.substring(packageName.length() + 1);
+    }
+    var simpleName = nested.replace('.', '_') + SUFFIX;
+    return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+  }
+
+  private String packageOf(TypeElement type) {
+    return processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+  }
+
+  private void write(TypeElement type, List<String> cases) {
+    var binderName = binderName(type);
+    var packageName = packageOf(type);
+    var simpleName = binderName.substring(binderName.lastIndexOf('.') + 1);
+    var typeName = type.getQualifiedName().toString();
+    var unknown = ignoresUnknown(type, processingEnv.getElementUtils())
+        ? "        default -> { }"
+        : "        default -> %s.unknownKey(entry, \"%s\");".formatted(NODES, typeName);
+    try (var out = new PrintWriter(processingEnv.getFiler().createSourceFile(binderName, type).openWriter())) {
+      if (!packageName.isEmpty()) {
+        out.println("package " + packageName + ";");
+        out.println();
+      }
+      out.println("/**");
+      out.println(" * Binds {@link " + typeName + "} from composed YAML nodes.");
+      out.println(" * Generated by " + getClass().getName() + ", do not edit.");
+      out.println(" */");
+      out.println("public final class " + simpleName + " implements " + YAML_PACKAGE + ".YamlBinder<" + typeName + "> {");
+      out.println("  /**");
+      out.println("   * The shared instance, binders are stateless");
+      out.println("   */");
+      out.println("  public static final " + simpleName + " INSTANCE = new " + simpleName + "();");
+      out.println();
+      out.println("  @Override");
+      out.println("  public " + typeName + " bind(org.yaml.snakeyaml.nodes.Node node) {");
+      out.println("    if (" + NODES + ".isNull(node)) {");
+      out.println("      return null;");
+      out.println("    }");
+      out.println("    var target = new " + typeName + "();");
+      out.println("    for (var entry : " + NODES + ".entries(node, \"" + typeName + "\")) {");
+      out.println("      var value = entry.getValueNode();");
+      out.println("      switch (" + NODES + ".key(entry)) {");
+      cases.forEach(out::println);
+      out.println(unknown);
+      out.println("      }");
+      out.println("    }");
+      out.println("    return target;");
+      out.println("  }");
+      out.println("}");
+    } catch (IOException e) {
+      error("Could not write %s: %s".formatted(binderName, e.getMessage()), type);
+    }
+  }
+}
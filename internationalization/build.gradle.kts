@@ -29,6 +29,7 @@
  */
 
 import systems.terranatal.generateMvnPublication
+import systems.terranatal.registerBundleCompilation
 
 plugins {
     `java-library`
@@ -49,12 +50,17 @@ dependencies {
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
     testImplementation("org.junit.jupiter:junit-jupiter-params")
+    testAnnotationProcessor(project(":internationalization-processor"))
 }
 
 generateMvnPublication("internationalization", "omni-internationalization",
     "Java classes to help in the localization of JavaFX apps")
 
 java {
+    // AsyncBundleLoader runs on virtual threads
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
     withJavadocJar()
     withSourcesJar()
 }
@@ -62,3 +68,50 @@ java {
 tasks.test {
     useJUnitPlatform()
 }
+
+// Compiles the bundles under src/test/bundles so the tests can read them as binary bundles from the classpath
+val compileTestBundles = registerBundleCompilation("compileTestBundles",
+    file("src/test/bundles"), layout.buildDirectory.dir("generated/bundles/test").get().asFile,
+    sourceSets.main.get().runtimeClasspath)
+
+sourceSets.test {
+    resources.srcDir(compileTestBundles)
+}
+
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations["jmhImplementation"].extendsFrom(configurations.implementation.get())
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+    "jmhImplementation"("org.openjdk.jol:jol-core:0.17")
+}
+
+// Runs the benchmarks in src/jmh, a subset can be selected with e.g. -Pjmh.includes=StripGroupingSymbols
+// The JSON results are named after the project version so that runs of different releases can be compared
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks of this module"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val results = layout.buildDirectory.file("reports/jmh/results-${project.version}.json").get().asFile
+    args(providers.gradleProperty("jmh.includes").getOrElse(".*"), "-rf", "json", "-rff", results.absolutePath)
+    doFirst {
+        results.parentFile.mkdirs()
+    }
+}
+
+tasks.register<JavaExec>("bundleFootprint") {
+    group = "verification"
+    description = "Prints the retained heap of bundles with HashMap and frozen storage"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("systems.terranatal.omnijfx.internationalization.BundleFootprint")
+    jvmArgs("-Djdk.attach.allowAttachSelf=true")
+}
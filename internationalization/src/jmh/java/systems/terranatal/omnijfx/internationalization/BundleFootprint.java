@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Prints the heap retained by the storage of a bundle, excluding the key and value strings which are
+ * shared by both representations. Run it with {@code ./gradlew :internationalization:bundleFootprint}.
+ */
+public class BundleFootprint {
+
+  public static void main(String[] args) {
+    System.out.printf("%10s %16s %16s %10s%n", "keys", "HashMap (bytes)", "frozen (bytes)", "ratio");
+    for (var size : new int[] { 1_000, 10_000, 100_000 }) {
+      var hashed = SyntheticBundles.bundle(size);
+      var frozen = hashed.freeze();
+      var strings = GraphLayout.parseInstance(hashed.resources.keySet().toArray(),
+          hashed.resources.values().toArray());
+      var hashedSize = GraphLayout.parseInstance(hashed.resources).subtract(strings).totalSize();
+      var frozenSize = GraphLayout.parseInstance(frozen.resources).subtract(strings).totalSize();
+      System.out.printf("%10d %16d %16d %10.2f%n", size, hashedSize, frozenSize, (double) frozenSize / hashedSize);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import systems.terranatal.omnijfx.internationalization.yaml.YamlResourceBundle;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to load {@link YamlResourceBundle}s and {@link ResourceBundle.PropertyResourceBundle}s of
+ * several sizes from encoded bytes, so decoding is part of the measurement. UTF-16BE is the charset of the
+ * test resources under {@code UTF-16}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BundleLoadBenchmark {
+  @Param({"100", "1000", "10000"})
+  public int size;
+
+  @Param({"UTF-8", "UTF-16BE"})
+  public String charsetName;
+
+  private Charset charset;
+
+  private byte[] yaml;
+
+  private byte[] properties;
+
+  @Setup
+  public void setup() {
+    charset = Charset.forName(charsetName);
+    yaml = SyntheticBundles.yaml(size).getBytes(charset);
+    properties = SyntheticBundles.properties(size).getBytes(charset);
+  }
+
+  private InputStreamReader reader(byte[] content) {
+    return new InputStreamReader(new ByteArrayInputStream(content), charset);
+  }
+
+  @Benchmark
+  public ResourceBundle yaml() {
+    return new YamlResourceBundle(reader(yaml), Locale.US, charset);
+  }
+
+  @Benchmark
+  public ResourceBundle properties() throws IOException {
+    return new ResourceBundle.PropertyResourceBundle(reader(properties), Locale.US, charset);
+  }
+}
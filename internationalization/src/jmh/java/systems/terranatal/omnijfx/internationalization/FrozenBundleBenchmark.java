@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups in a bundle backed by a {@link java.util.HashMap} with its frozen copy.
+ * The memory taken by each of them is printed by {@link BundleFootprint}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FrozenBundleBenchmark {
+  @Param({"1000", "10000", "100000"})
+  public int size;
+
+  private ResourceBundle hashed;
+  private ResourceBundle frozen;
+  private String[] keys;
+  private String[] missingKeys;
+  private int next;
+
+  @Setup
+  public void setup() {
+    hashed = SyntheticBundles.bundle(size);
+    frozen = hashed.freeze();
+    // copies of the keys, so that lookups do not benefit from reference equality
+    keys = hashed.resources.keySet().stream().map(String::new).toArray(String[]::new);
+    missingKeys = hashed.resources.keySet().stream().map(key -> key + ".missing").toArray(String[]::new);
+  }
+
+  private String nextKey(String[] source) {
+    next = (next + 1) & 1023;
+    return source[(int) ((long) next * source.length >>> 10)];
+  }
+
+  @Benchmark
+  public Optional<String> hashMapHit() {
+    return hashed.optionalString(nextKey(keys));
+  }
+
+  @Benchmark
+  public Optional<String> frozenHit() {
+    return frozen.optionalString(nextKey(keys));
+  }
+
+  @Benchmark
+  public Optional<String> hashMapMiss() {
+    return hashed.optionalString(nextKey(missingKeys));
+  }
+
+  @Benchmark
+  public Optional<String> frozenMiss() {
+    return frozen.optionalString(nextKey(missingKeys));
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link NumericColumnParser} scales with the number of worker threads, against the
+ * per-cell {@link NumericParsingUtils#isParseable(String, Locale)} and
+ * {@link NumericParsingUtils#parseUnchecked(NumberFormat, String)} loop it replaces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class NumericColumnParserBenchmark {
+  private static final Locale LOCALE = Locale.GERMANY;
+
+  @State(Scope.Benchmark)
+  public static class Column {
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    public String[] cells;
+    public double[] target;
+
+    @Setup
+    public void setup() {
+      var random = new Random(42);
+      var format = NumberFormat.getInstance(LOCALE);
+      cells = new String[size];
+      for (int i = 0; i < size; i++) {
+        cells[i] = i % 100 == 0 ? "n/a" : format.format(random.nextDouble() * 1_000_000);
+      }
+      target = new double[size];
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class Workers {
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    public ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      pool.shutdown();
+    }
+  }
+
+  @Benchmark
+  public BitSet columnParser(Column column, Workers workers) {
+    return NumericColumnParser.parseDoubles(Arrays.asList(column.cells), LOCALE, column.target,
+        workers.pool);
+  }
+
+  @Benchmark
+  public double[] perCellNumberFormat(Column column) {
+    var format = NumberFormat.getInstance(LOCALE);
+    for (int i = 0; i < column.cells.length; i++) {
+      var cell = column.cells[i];
+      column.target[i] = NumericParsingUtils.isParseable(cell, LOCALE)
+          ? NumericParsingUtils.parseUnchecked(format, cell).doubleValue()
+          : Double.NaN;
+    }
+    return column.target;
+  }
+}
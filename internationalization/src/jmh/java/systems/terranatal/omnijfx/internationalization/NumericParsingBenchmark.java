@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every {@link NumericParsingUtils} method with numbers formatted by the {@link NumberFormat} of each
+ * locale. The default locale is set to the benchmarked one so that the overloads without a {@link Locale}
+ * parse the same text; each parameter combination runs in its own fork.
+ * {@link StripGroupingSymbolsBenchmark} compares the String and StringBuilder overloads of
+ * {@code stripGroupingSymbols} against the regular expression they replaced.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumericParsingBenchmark {
+  @Param({"en-US", "de-DE", "fr-FR"})
+  public String languageTag;
+
+  private Locale locale;
+
+  private NumberFormat formatter;
+
+  private String decimal;
+
+  private String integer;
+
+  private char decimalSeparator;
+
+  private final double[] doubles = new double[1];
+
+  private final long[] longs = new long[1];
+
+  private final StringWriter writer = new StringWriter(32);
+
+  @Setup
+  public void setup() {
+    locale = Locale.forLanguageTag(languageTag);
+    Locale.setDefault(locale);
+    formatter = NumberFormat.getNumberInstance(locale);
+    decimal = formatter.format(1234567.89);
+    integer = formatter.format(1234567L);
+    decimalSeparator = NumericScanner.of(locale).getDecimalSeparator();
+  }
+
+  @Benchmark
+  public boolean isParseable() {
+    return NumericParsingUtils.isParseable(decimal, locale);
+  }
+
+  @Benchmark
+  public boolean isParseableDefaultLocale() {
+    return NumericParsingUtils.isParseable(decimal);
+  }
+
+  @Benchmark
+  public String stripGroupingSymbolsDefaultLocale() {
+    return NumericParsingUtils.stripGroupingSymbols(decimal);
+  }
+
+  @Benchmark
+  public StringWriter stripGroupingSymbolsAppendable() throws IOException {
+    writer.getBuffer().setLength(0);
+    return NumericParsingUtils.stripGroupingSymbols(decimal, decimalSeparator, writer);
+  }
+
+  @Benchmark
+  public boolean hasGrouping() {
+    return NumericParsingUtils.hasGrouping(integer, locale);
+  }
+
+  @Benchmark
+  public boolean hasGroupingDefaultLocale() {
+    return NumericParsingUtils.hasGrouping(integer);
+  }
+
+  @Benchmark
+  public double parseDouble() {
+    return NumericParsingUtils.parseDouble(decimal, locale);
+  }
+
+  @Benchmark
+  public double parseDoubleDefaultLocale() {
+    return NumericParsingUtils.parseDouble(decimal);
+  }
+
+  @Benchmark
+  public boolean tryParseDouble() {
+    return NumericParsingUtils.tryParseDouble(decimal, locale, doubles, 0);
+  }
+
+  @Benchmark
+  public long parseLong() {
+    return NumericParsingUtils.parseLong(integer, locale, -1);
+  }
+
+  @Benchmark
+  public long parseLongDefaultLocale() {
+    return NumericParsingUtils.parseLong(integer, -1);
+  }
+
+  @Benchmark
+  public boolean tryParseLong() {
+    return NumericParsingUtils.tryParseLong(integer, locale, longs, 0);
+  }
+
+  @Benchmark
+  public Number parseUnchecked() {
+    return NumericParsingUtils.parseUnchecked(formatter, decimal);
+  }
+}
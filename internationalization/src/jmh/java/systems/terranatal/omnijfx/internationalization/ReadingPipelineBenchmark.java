@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Compares reading a large bundle through the {@link Loader}s, which decode from channels with buffers sized
+ * after the resource, against the unbuffered {@link InputStreamReader}s they used to return. The bundle is
+ * stored in a file and in a JAR file, in UTF-8 and in UTF-16 with a byte order mark like the test resources,
+ * and the whole content is read without parsing it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReadingPipelineBenchmark {
+  private static final String RESOURCE = "bundle.properties";
+
+  @Param({"10000", "100000"})
+  public int size;
+
+  @Param({"UTF-8", "UTF-16"})
+  public String charsetName;
+
+  private Charset charset;
+
+  private Path directory;
+
+  private Path file;
+
+  private URLClassLoader jarClassLoader;
+
+  private final char[] buffer = new char[8192];
+
+  @Setup
+  public void setup() throws IOException {
+    charset = Charset.forName(charsetName);
+    directory = Files.createTempDirectory("pipeline");
+    file = directory.resolve(RESOURCE);
+    // the UTF-16 encoder writes a big-endian byte order mark
+    Files.write(file, SyntheticBundles.properties(size).getBytes(charset));
+
+    var jar = directory.resolve("bundles.jar");
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new JarEntry(RESOURCE));
+      Files.copy(file, out);
+    }
+    jarClassLoader = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    jarClassLoader.close();
+    try (var files = Files.walk(directory)) {
+      for (var path : files.sorted((a, b) -> b.compareTo(a)).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  private long drain(Reader reader) throws IOException {
+    try (reader) {
+      long total = 0;
+      int read;
+      while ((read = reader.read(buffer)) >= 0) {
+        total += read;
+      }
+      return total;
+    }
+  }
+
+  @Benchmark
+  public long fileInputStreamReader() throws IOException {
+    return drain(new InputStreamReader(new FileInputStream(file.toFile()), charset));
+  }
+
+  @Benchmark
+  public long localFileLoader() throws IOException {
+    return drain(new Loader.LocalFile().loadResource(file.toString(), charset));
+  }
+
+  @Benchmark
+  public long mappedFileLoader() throws IOException {
+    return drain(new Loader.MappedFile().loadResource(file.toString(), charset));
+  }
+
+  @Benchmark
+  public long jarInputStreamReader() throws IOException {
+    return drain(new InputStreamReader(jarClassLoader.getResourceAsStream(RESOURCE), charset));
+  }
+
+  @Benchmark
+  public long jarClasspathLoader() throws IOException {
+    return drain(new Loader.Classpath(jarClassLoader).loadResource(RESOURCE, charset));
+  }
+}
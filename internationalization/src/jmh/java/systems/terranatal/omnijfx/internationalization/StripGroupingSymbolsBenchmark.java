@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares {@link NumericParsingUtils#stripGroupingSymbols(String, String)} and its {@link StringBuilder}
+ * overload against the regular expression based implementation they replaced.
+ * Run with {@code -prof gc} to compare the allocation rates as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StripGroupingSymbolsBenchmark {
+
+  @Param({"1234567", "1,234,567.89", "12 345 678 901,25"})
+  public String text;
+
+  private final StringBuilder reused = new StringBuilder(32);
+
+  private String decimalSeparator;
+
+  @Setup
+  public void setup() {
+    decimalSeparator = text.contains(",") && !text.contains(".") ? "," : ".";
+  }
+
+  private static String regexStrip(String text, String decimalSeparator) {
+    var others = NumericParsingUtils.NUMERIC_GROUPING_TOKENS.stream()
+        .filter(t -> !t.equals("\\" + decimalSeparator));
+    return text.replaceAll(others.collect(Collectors.joining("|")), "");
+  }
+
+  @Benchmark
+  public String regex() {
+    return regexStrip(text, decimalSeparator);
+  }
+
+  @Benchmark
+  public String singlePass() {
+    return NumericParsingUtils.stripGroupingSymbols(text, decimalSeparator);
+  }
+
+  @Benchmark
+  public StringBuilder singlePassReusedBuilder() {
+    reused.setLength(0);
+    return NumericParsingUtils.stripGroupingSymbols(text, decimalSeparator.charAt(0), reused);
+  }
+}
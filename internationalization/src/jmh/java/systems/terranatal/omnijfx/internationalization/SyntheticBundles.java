@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Synthetic bundles shared by the benchmarks of this package
+ */
+final class SyntheticBundles {
+  private SyntheticBundles() {
+  }
+
+  /**
+   * Generates keys shaped like the ones of real bundles, e.g. {@code screen12.section3.label45}
+   *
+   * @param size the number of keys
+   * @return the keys mapped to their values
+   */
+  static Map<String, String> resources(int size) {
+    var resources = new HashMap<String, String>();
+    for (int i = 0; i < size; i++) {
+      resources.put("screen%d.section%d.label%d".formatted(i / 1000, i / 100 % 10, i % 100),
+          "Localized text number %d".formatted(i));
+    }
+    return resources;
+  }
+
+  /**
+   * Wraps synthetic resources in a bundle backed by a {@link HashMap}, like the loaded ones
+   *
+   * @param size the number of keys
+   * @return the bundle
+   */
+  static ResourceBundle bundle(int size) {
+    return new ResourceBundle(resources(size), Locale.US, StandardCharsets.UTF_8) { };
+  }
+
+  /**
+   * Generates the YAML equivalent of {@link #resources(int)}, nested by screen and section
+   *
+   * @param size the number of keys
+   * @return the YAML content
+   */
+  static String yaml(int size) {
+    var yaml = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      if (i % 1000 == 0) {
+        yaml.append("screen").append(i / 1000).append(":\n");
+      }
+      if (i % 100 == 0) {
+        yaml.append("  section").append(i / 100 % 10).append(":\n");
+      }
+      yaml.append("    label").append(i % 100).append(": Localized text number ").append(i).append('\n');
+    }
+    return yaml.toString();
+  }
+
+  /**
+   * Generates the properties equivalent of {@link #resources(int)}, in the same key order as {@link #yaml(int)}
+   *
+   * @param size the number of keys
+   * @return the properties content
+   */
+  static String properties(int size) {
+    var properties = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      properties.append("screen").append(i / 1000).append(".section").append(i / 100 % 10)
+          .append(".label").append(i % 100).append(" = Localized text number ").append(i).append('\n');
+    }
+    return properties.toString();
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization.yaml;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former recursive flattening, which copies a map at each level, with
+ * {@link YamlResourceBundle#flattenInto(Object, String, Map)} on a tree 10 levels deep with 100k leaves
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlattenBenchmark {
+  private static final int DEPTH = 10;
+  private static final int LEAVES = 100_000;
+  private static final int BRANCHING = 3;
+
+  private Object tree;
+
+  @Setup
+  public void setup() {
+    tree = node(1, 0, LEAVES);
+  }
+
+  /**
+   * Builds a mapping at the given level holding {@code leaves} leaves, numbered from {@code first}
+   */
+  private static Map<String, Object> node(int level, int first, int leaves) {
+    var node = new LinkedHashMap<String, Object>();
+    if (level == DEPTH) {
+      for (int i = 0; i < leaves; i++) {
+        node.put("label" + (first + i), "Localized text number " + (first + i));
+      }
+      return node;
+    }
+    var start = 0;
+    for (int i = 0; i < BRANCHING; i++) {
+      var end = leaves * (i + 1) / BRANCHING;
+      node.put("level" + level + "node" + i, node(level + 1, first + start, end - start));
+      start = end;
+    }
+    return node;
+  }
+
+  @Benchmark
+  public Map<String, String> recursive() {
+    return recursiveFlatten(tree, "");
+  }
+
+  @Benchmark
+  public Map<String, String> iterative() {
+    var map = new HashMap<String, String>();
+    YamlResourceBundle.flattenInto(tree, "", map);
+    return map;
+  }
+
+  /**
+   * The implementation of {@link YamlResourceBundle#flatten(Object, String)} before it was made iterative
+   */
+  private static Map<String, String> recursiveFlatten(Object node, String parent) {
+    var map = new HashMap<String, String>();
+    if (node instanceof String value) {
+      map.put(parent, value);
+      return map;
+    }
+    if (node instanceof Map<?,?> children) {
+      children.forEach((k, v) -> {
+        if (parent.endsWith(k.toString())) {
+          map.putAll(recursiveFlatten(v, parent));
+        } else {
+          var dot = !parent.isBlank() ? "." : "";
+          map.putAll(recursiveFlatten(v, parent + dot + k));
+        }
+      });
+    } else if (node instanceof Iterable<?> it) {
+      it.forEach(el -> map.putAll(recursiveFlatten(el, parent)));
+    }
+    return map;
+  }
+}
@@ -42,10 +42,13 @@ import java.nio.charset.Charset;
 
 module omnijfx.internationalization {
   requires org.yaml.snakeyaml;
+  requires jdk.jfr;
 
   opens systems.terranatal.omnijfx.internationalization;
   opens systems.terranatal.omnijfx.internationalization.yaml;
+  opens systems.terranatal.omnijfx.internationalization.binary;
 
   exports systems.terranatal.omnijfx.internationalization;
   exports systems.terranatal.omnijfx.internationalization.yaml;
+  exports systems.terranatal.omnijfx.internationalization.binary;
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Loads many bundles at once without blocking the caller, e.g. to preload the bundles of every supported
+ * locale at startup. Each bundle is read and parsed on its own virtual thread, and a {@link Semaphore}
+ * bounds how many of them run at the same time, which keeps the number of open files and the memory taken
+ * by parsers under control.
+ * <pre>
+ *   try (var loader = new AsyncBundleLoader(new Loader.Classpath(), ".yaml", UTF_8, YamlResourceBundle::new, 8)) {
+ *     var bundles = loader.loadAll(requests).join();
+ *   }
+ * </pre>
+ * The file of each request is named as in {@link FallbackResourceBundle#fileName(String, Locale, String)}.
+ * When a {@link BundleRegistry} is given, the bundles are retrieved through it, so they are cached and a
+ * bundle requested concurrently elsewhere is loaded only once.
+ */
+public class AsyncBundleLoader implements AutoCloseable {
+  private final Loader loader;
+  private final String extension;
+  private final Charset charset;
+  private final BundleFactory factory;
+  private final BundleRegistry registry;
+  private final Semaphore permits;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  /**
+   * Initializes a loader which does not cache the bundles
+   *
+   * @param loader opens the files
+   * @param extension the file extension, including the dot
+   * @param charset the encoding scheme of the files
+   * @param factory parses the files
+   * @param maxConcurrency the maximum number of bundles loaded at the same time
+   */
+  public AsyncBundleLoader(Loader loader, String extension, Charset charset, BundleFactory factory,
+                           int maxConcurrency) {
+    this(loader, extension, charset, factory, maxConcurrency, null);
+  }
+
+  /**
+   * Initializes a loader which retrieves the bundles through a registry
+   *
+   * @param loader opens the files
+   * @param extension the file extension, including the dot
+   * @param charset the encoding scheme of the files
+   * @param factory parses the files
+   * @param maxConcurrency the maximum number of bundles loaded at the same time
+   * @param registry caches the bundles, or null to load them every time
+   */
+  public AsyncBundleLoader(Loader loader, String extension, Charset charset, BundleFactory factory,
+                           int maxConcurrency, BundleRegistry registry) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("The maximum concurrency must be positive");
+    }
+    this.loader = Objects.requireNonNull(loader);
+    this.extension = Objects.requireNonNull(extension);
+    this.charset = Objects.requireNonNull(charset);
+    this.factory = Objects.requireNonNull(factory);
+    this.registry = registry;
+    this.permits = new Semaphore(maxConcurrency);
+  }
+
+  /**
+   * Starts loading a single bundle
+   *
+   * @param request the bundle to be loaded
+   * @return a future completed with the bundle, or exceptionally with a {@link ResourceLoadingException}
+   */
+  public CompletableFuture<ResourceBundle> loadAsync(BundleRequest request) {
+    return CompletableFuture.supplyAsync(() -> load(request), executor);
+  }
+
+  /**
+   * Starts loading all the given bundles, each one completing on its own
+   *
+   * @param requests the bundles to be loaded, duplicates are loaded once
+   * @return the future of each bundle, in the order of the requests
+   */
+  public Map<BundleRequest, CompletableFuture<ResourceBundle>> loadAsync(Collection<BundleRequest> requests) {
+    var futures = new LinkedHashMap<BundleRequest, CompletableFuture<ResourceBundle>>();
+    for (var request : requests) {
+      futures.computeIfAbsent(request, this::loadAsync);
+    }
+    return Collections.unmodifiableMap(futures);
+  }
+
+  /**
+   * Loads all the given bundles and waits for every one of them, so that all the failures are reported together
+   *
+   * @param requests the bundles to be loaded, duplicates are loaded once
+   * @return a future completed with the bundles in the order of the requests, or exceptionally with a
+   *  {@link BundleLoadingException} holding every failure once all the loads are done
+   */
+  public CompletableFuture<Map<BundleRequest, ResourceBundle>> loadAll(Collection<BundleRequest> requests) {
+    var futures = loadAsync(requests);
+    return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+        .handle((ignored, error) -> {
+          var bundles = new LinkedHashMap<BundleRequest, ResourceBundle>();
+          var failures = new LinkedHashMap<BundleRequest, Throwable>();
+          futures.forEach((request, future) -> {
+            try {
+              bundles.put(request, future.join());
+            } catch (CompletionException e) {
+              failures.put(request, e.getCause());
+            }
+          });
+          if (!failures.isEmpty()) {
+            throw new BundleLoadingException(failures);
+          }
+          return Collections.unmodifiableMap(bundles);
+        });
+  }
+
+  private ResourceBundle load(BundleRequest request) {
+    var fileName = FallbackResourceBundle.fileName(request.name(), request.locale(), extension);
+    permits.acquireUninterruptibly();
+    try {
+      return registry != null
+          ? registry.get(fileName, request.locale(), charset, loader, factory)
+          : factory.load(loader, fileName, request.locale(), charset);
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Stops accepting new requests, the loads already started still complete
+   */
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+
+  /**
+   * A bundle to be loaded
+   *
+   * @param name the base name of the bundle, see {@link FallbackResourceBundle#fileName(String, Locale, String)}
+   * @param locale the locale of the bundle
+   */
+  public record BundleRequest(String name, Locale locale) {
+    /**
+     * Validates the request
+     *
+     * @param name the base name of the bundle
+     * @param locale the locale of the bundle
+     */
+    public BundleRequest {
+      Objects.requireNonNull(name);
+      Objects.requireNonNull(locale);
+    }
+  }
+
+  /**
+   * Reports every bundle that failed to load in a call to {@link AsyncBundleLoader#loadAll(Collection)}.
+   * Each cause is also added as a suppressed exception, so they all show up in the stack trace.
+   */
+  public static final class BundleLoadingException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Map<BundleRequest, Throwable> failures;
+
+    /**
+     * Builds the exception from the failed requests
+     *
+     * @param failures the cause of each failed request
+     */
+    public BundleLoadingException(Map<BundleRequest, Throwable> failures) {
+      super("%d bundle(s) could not be loaded: %s".formatted(failures.size(), failures.keySet()));
+      this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+      failures.values().forEach(this::addSuppressed);
+    }
+
+    /**
+     * Retrieves the failures
+     *
+     * @return the cause of each failed request, in the order of the requests
+     */
+    public Map<BundleRequest, Throwable> getFailures() {
+      return failures;
+    }
+  }
+}
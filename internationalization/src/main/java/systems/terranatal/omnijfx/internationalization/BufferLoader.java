@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.net.URL;
+import java.nio.ByteBuffer;
+
+/**
+ * A source of resource files which can expose their raw contents as a {@link ByteBuffer}, so that
+ * formats read directly from bytes, like the compiled bundles of the {@code binary} package, do not need
+ * to copy them into heap arrays.
+ */
+public interface BufferLoader {
+
+  /**
+   * Loads the contents of the resource given the raw string file name
+   * @param fileName the name of the file according to the loading method
+   * @return a read-only {@link ByteBuffer} positioned at the start of the file contents
+   * @throws ResourceLoadingException if the file could not be found or read
+   */
+  ByteBuffer loadBuffer(String fileName);
+
+  /**
+   * Loads the contents of the resource with the path in URL notation
+   * @param fileName the name of the file as an URL
+   * @return a read-only {@link ByteBuffer} positioned at the start of the file contents
+   * @throws ResourceLoadingException if the file could not be found or read
+   */
+  ByteBuffer loadBuffer(URL fileName);
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Locale;
+
+/**
+ * Creates a {@link ResourceBundle} from the contents of a resource file. The constructors of the
+ * bundle classes fit this interface, e.g. {@code YamlResourceBundle::new}, which allows the components that
+ * load bundles on behalf of the user, such as {@link BundleRegistry}, to work with any of them.
+ */
+@FunctionalInterface
+public interface BundleFactory {
+  /**
+   * Creates bundles from {@code .properties} files
+   */
+  BundleFactory PROPERTIES = ResourceBundle.PropertyResourceBundle::new;
+
+  /**
+   * Parses the resource contents into a bundle
+   *
+   * @param reader the reader to the file contents
+   * @param locale the locale of the bundle
+   * @param charset the encoding scheme of the file
+   * @return the bundle
+   * @throws IOException when reading the file contents fails
+   */
+  ResourceBundle create(Reader reader, Locale locale, Charset charset) throws IOException;
+
+  /**
+   * Opens the resource through the given {@link Loader}, parses it and closes it
+   *
+   * @param loader the loader used to open the resource
+   * @param fileName the name of the file according to the loader
+   * @param locale the locale of the bundle
+   * @param charset the encoding scheme of the file
+   * @return the bundle
+   * @throws ResourceLoadingException if the file cannot be opened or read
+   */
+  default ResourceBundle load(Loader loader, String fileName, Locale locale, Charset charset) {
+    var event = new BundleLoadEvent();
+    event.begin();
+    try (var reader = new CountingReader(loader.loadResource(fileName, charset))) {
+      var bundle = create(reader, locale, charset);
+      event.record(loader, fileName, reader.count(), bundle);
+      return bundle;
+    } catch (IOException e) {
+      throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromLoader(loader, fileName, e));
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Locale;
+
+/**
+ * Flight Recorder event committed by {@link BundleFactory#load(Loader, String, Locale, java.nio.charset.Charset)}
+ * for every bundle it loads, which covers the bundles loaded by {@link BundleRegistry}, {@link AsyncBundleLoader},
+ * {@link FallbackResourceBundle} and {@link ReloadableResourceBundle}. Loaders hand out {@link java.io.Reader}s, so the
+ * size of the resource is measured in decoded characters rather than in bytes.
+ * The methods of this class must not mix the types of this module in a single local, e.g. through a conditional
+ * expression, since Flight Recorder fails to instrument event classes whose stack frames merge such types.
+ */
+@Name("omnijfx.BundleLoad")
+@Label("Bundle Load")
+@Category({"OmniJFx", "Internationalization"})
+@Description("A resource bundle loaded through a Loader")
+@StackTrace(false)
+final class BundleLoadEvent extends Event {
+  @Label("Resource")
+  @Description("The name of the resource according to the loader")
+  String resource;
+
+  @Label("Loader Type")
+  Class<?> loaderType;
+
+  @Label("Bundle Type")
+  Class<?> bundleType;
+
+  @Label("Locale")
+  String locale;
+
+  @Label("Characters")
+  @Description("The number of characters read from the resource")
+  long characters;
+
+  @Label("Key Count")
+  @Description("The number of keys held by the bundle when it was loaded, bundles parsed lazily only count the keys "
+      + "parsed so far")
+  int keyCount;
+
+  /**
+   * Commits this event if it is recorded
+   *
+   * @param loader the loader that opened the resource
+   * @param fileName the name of the resource
+   * @param characters the number of characters read from the resource
+   * @param bundle the loaded bundle
+   */
+  void record(Loader loader, String fileName, long characters, ResourceBundle bundle) {
+    end();
+    if (!shouldCommit()) {
+      return;
+    }
+    resource = fileName;
+    loaderType = loader.getClass();
+    bundleType = bundle.getClass();
+    locale = bundle.getLocale().toLanguageTag();
+    this.characters = characters;
+    // asMap() would make a lazy bundle parse all its content
+    keyCount = bundle.resources.size();
+    commit();
+  }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe cache of {@link ResourceBundle}s shared by the whole application, so that a bundle file
+ * requested by several screens is opened and parsed only once. Bundles are identified by a {@link Key}
+ * made of the file name, locale, charset and {@link Loader}.
+ * <p>Loading is single-flight: when many threads ask for the same missing bundle at once, only one of
+ * them parses it while the others wait for its result. A failed load is not cached, the next request
+ * tries again.</p>
+ * <p>Two eviction policies can be combined:</p>
+ * <ul>
+ *   <li>a maximum size, beyond which the least recently inserted bundles that were not requested since
+ *   the last eviction pass are removed (second-chance FIFO);</li>
+ *   <li>soft values, which lets the garbage collector reclaim bundles under memory pressure,
+ *   they are loaded again when requested afterward.</li>
+ * </ul>
+ */
+public class BundleRegistry {
+  /**
+   * Identifies a bundle in the registry
+   *
+   * @param name the file name, as given to {@link Loader#loadResource(String, Charset)}
+   * @param locale the locale of the bundle
+   * @param charset the encoding scheme of the file
+   * @param loader the loader which opens the file
+   */
+  public record Key(String name, Locale locale, Charset charset, Loader loader) {
+    /**
+     * Validates the components, none of them may be null
+     */
+    public Key {
+      Objects.requireNonNull(name);
+      Objects.requireNonNull(locale);
+      Objects.requireNonNull(charset);
+      Objects.requireNonNull(loader);
+    }
+  }
+
+  private static final class Entry {
+    private final Key key;
+    private volatile CompletableFuture<ResourceBundle> loading = new CompletableFuture<>();
+    private volatile Object value;
+    private volatile boolean referenced;
+
+    private Entry(Key key) {
+      this.key = key;
+    }
+  }
+
+  private static final class SoftValue extends SoftReference<ResourceBundle> {
+    private final Key key;
+
+    private SoftValue(Key key, ResourceBundle bundle, ReferenceQueue<ResourceBundle> queue) {
+      super(bundle, queue);
+      this.key = key;
+    }
+  }
+
+  private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+  /**
+   * Loaded entries in insertion order, only maintained when the size is bounded. An entry that is no longer
+   * the one mapped to its key is a stale position and is dropped when polled.
+   */
+  private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final ReferenceQueue<ResourceBundle> collected = new ReferenceQueue<>();
+  private final int maximumSize;
+  private final boolean softValues;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Initializes the registry
+   *
+   * @param maximumSize the maximum number of bundles kept, {@link Integer#MAX_VALUE} for no limit
+   * @param softValues whether the bundles are only softly reachable from the registry
+   */
+  public BundleRegistry(int maximumSize, boolean softValues) {
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("The maximum size must be positive, got %d.".formatted(maximumSize));
+    }
+    this.maximumSize = maximumSize;
+    this.softValues = softValues;
+  }
+
+  /**
+   * Creates a registry which keeps at most {@code maximumSize} bundles
+   *
+   * @param maximumSize the maximum number of bundles kept
+   * @return the registry
+   */
+  public static BundleRegistry bounded(int maximumSize) {
+    return new BundleRegistry(maximumSize, false);
+  }
+
+  /**
+   * Creates a registry without size limit whose bundles can be reclaimed by the garbage collector
+   *
+   * @return the registry
+   */
+  public static BundleRegistry softValues() {
+    return new BundleRegistry(Integer.MAX_VALUE, true);
+  }
+
+  /**
+   * Retrieves the bundle, loading it with the given factory if it is not in the registry yet.
+   * The factory is not part of the key, the same file should always be loaded with the same factory.
+   *
+   * @param name the file name, as given to {@link Loader#loadResource(String, Charset)}
+   * @param locale the locale of the bundle
+   * @param charset the encoding scheme of the file
+   * @param loader the loader which opens the file
+   * @param factory the factory that parses the file on a cache miss
+   * @return the cached or freshly loaded bundle
+   * @throws ResourceLoadingException if the bundle is not cached and cannot be loaded
+   */
+  public ResourceBundle get(String name, Locale locale, Charset charset, Loader loader, BundleFactory factory) {
+    return get(new Key(name, locale, charset, loader), factory);
+  }
+
+  /**
+   * Retrieves the bundle, loading it with the given factory if it is not in the registry yet.
+   *
+   * @param key identifies the bundle
+   * @param factory the factory that parses the file on a cache miss
+   * @return the cached or freshly loaded bundle
+   * @throws ResourceLoadingException if the bundle is not cached and cannot be loaded
+   */
+  public ResourceBundle get(Key key, BundleFactory factory) {
+    expungeCollected();
+    while (true) {
+      var entry = entries.get(key);
+      if (entry == null) {
+        var created = new Entry(key);
+        entry = entries.putIfAbsent(key, created);
+        if (entry == null) {
+          return load(key, created, factory);
+        }
+      }
+      var bundle = await(entry);
+      if (bundle != null) {
+        hits.increment();
+        entry.referenced = true;
+        return bundle;
+      }
+      // the soft value was collected
+      entries.remove(key, entry);
+    }
+  }
+
+  private ResourceBundle load(Key key, Entry entry, BundleFactory factory) {
+    misses.increment();
+    var future = entry.loading;
+    ResourceBundle bundle;
+    try {
+      bundle = factory.load(key.loader(), key.name(), key.locale(), key.charset());
+    } catch (RuntimeException | Error e) {
+      entries.remove(key, entry);
+      future.completeExceptionally(e);
+      throw e;
+    }
+    entry.value = softValues ? new SoftValue(key, bundle, collected) : bundle;
+    future.complete(bundle);
+    entry.loading = null;
+    if (maximumSize != Integer.MAX_VALUE) {
+      insertionOrder.add(entry);
+      evictIfNeeded();
+    }
+    return bundle;
+  }
+
+  private static ResourceBundle await(Entry entry) {
+    var future = entry.loading;
+    if (future != null) {
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+    }
+    return entry.value instanceof SoftValue soft ? soft.get() : (ResourceBundle) entry.value;
+  }
+
+  /**
+   * Evicts entries in second-chance order until the size limit is met, giving up once two full passes over
+   * the queue, i.e. enough to clear every reference flag, went by without evicting anything
+   */
+  private void evictIfNeeded() {
+    var retries = 0;
+    while (entries.size() > maximumSize) {
+      var entry = insertionOrder.poll();
+      if (entry == null) {
+        return;
+      }
+      if (entries.get(entry.key) != entry) {
+        continue;
+      }
+      if (entry.referenced || entry.loading != null) {
+        entry.referenced = false;
+        insertionOrder.add(entry);
+        if (++retries > 2 * entries.size()) {
+          return;
+        }
+      } else if (entries.remove(entry.key, entry)) {
+        evictions.increment();
+        retries = 0;
+      }
+    }
+  }
+
+  private void expungeCollected() {
+    Reference<? extends ResourceBundle> reference;
+    while ((reference = collected.poll()) != null) {
+      var key = ((SoftValue) reference).key;
+      var entry = entries.get(key);
+      if (entry != null && entry.value == reference && entries.remove(key, entry)) {
+        insertionOrder.remove(entry);
+        evictions.increment();
+      }
+    }
+  }
+
+  /**
+   * Removes a bundle from the registry, so that the next request loads it again
+   *
+   * @param key identifies the bundle
+   */
+  public void invalidate(Key key) {
+    var entry = entries.remove(key);
+    if (entry != null) {
+      insertionOrder.remove(entry);
+    }
+  }
+
+  /**
+   * Removes all bundles from the registry
+   */
+  public void clear() {
+    entries.clear();
+    insertionOrder.clear();
+  }
+
+  /**
+   * Retrieves the number of bundles currently in the registry, including the ones being loaded
+   *
+   * @return the number of bundles
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Retrieves how many requests were served by a bundle already loaded or being loaded by another thread
+   *
+   * @return the number of hits
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Retrieves how many requests had to load their bundle
+   *
+   * @return the number of misses
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Retrieves how many bundles were evicted by the size limit or collected by the garbage collector
+   *
+   * @return the number of evictions
+   */
+  public long evictionCount() {
+    return evictions.sum();
+  }
+}
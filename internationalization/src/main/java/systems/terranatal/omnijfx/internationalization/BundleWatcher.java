@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the files of {@link ReloadableResourceBundle}s with a {@link WatchService} and reloads them when
+ * they change. Editors often write a file in several steps, so the changes are debounced: the files are
+ * reloaded only once no new change was seen for the debounce delay, and each changed file is reparsed once.
+ * <p>A single daemon thread waits for the events and reloads the bundles, which is also the thread calling
+ * their {@link ReloadableResourceBundle.Listener}s. Closing the watcher stops it.</p>
+ * <pre>
+ *   var bundle = new ReloadableResourceBundle(Path.of("i18n/messages_pt.yaml"), locale, UTF_8, YamlResourceBundle::new);
+ *   var watcher = new BundleWatcher(Duration.ofMillis(300));
+ *   watcher.watch(bundle);
+ * </pre>
+ */
+public class BundleWatcher implements Closeable {
+  /**
+   * The debounce delay of the default constructor
+   */
+  public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(200);
+
+  private final WatchService watchService;
+  private final long debounceNanos;
+  private final List<ReloadableResourceBundle> bundles = new CopyOnWriteArrayList<>();
+  private final Map<Path, WatchKey> directories = new HashMap<>();
+  private final Thread thread;
+
+  /**
+   * Starts a watcher with the {@link #DEFAULT_DEBOUNCE} delay
+   *
+   * @throws IOException if the watch service cannot be created
+   */
+  public BundleWatcher() throws IOException {
+    this(DEFAULT_DEBOUNCE);
+  }
+
+  /**
+   * Starts a watcher
+   *
+   * @param debounce how long the files must stay unchanged before being reloaded
+   * @throws IOException if the watch service cannot be created
+   */
+  public BundleWatcher(Duration debounce) throws IOException {
+    this.watchService = FileSystems.getDefault().newWatchService();
+    this.debounceNanos = debounce.toNanos();
+    this.thread = new Thread(this::run, "omnijfx-bundle-watcher");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * Starts reloading the given bundle whenever one of its files changes
+   *
+   * @param bundle the bundle to be watched
+   * @throws IOException if the directory of a file cannot be watched
+   */
+  public void watch(ReloadableResourceBundle bundle) throws IOException {
+    synchronized (directories) {
+      for (var file : bundle.getFiles()) {
+        var directory = file.getParent();
+        if (!directories.containsKey(directory)) {
+          directories.put(directory, directory.register(watchService,
+              StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY));
+        }
+      }
+    }
+    bundles.add(bundle);
+  }
+
+  /**
+   * Stops reloading the given bundle, its directories stay watched until the watcher is closed
+   *
+   * @param bundle the bundle watched before
+   */
+  public void unwatch(ReloadableResourceBundle bundle) {
+    bundles.remove(bundle);
+  }
+
+  /**
+   * Stops watching the files and the thread of this watcher
+   *
+   * @throws IOException if the watch service cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    watchService.close();
+    thread.interrupt();
+  }
+
+  private void run() {
+    var changed = new LinkedHashSet<Path>();
+    var lastChange = 0L;
+    try {
+      while (true) {
+        WatchKey key;
+        if (changed.isEmpty()) {
+          key = watchService.take();
+        } else {
+          var remaining = lastChange + debounceNanos - System.nanoTime();
+          key = remaining > 0 ? watchService.poll(remaining, TimeUnit.NANOSECONDS) : null;
+        }
+        if (key != null) {
+          collect(key, changed);
+          lastChange = System.nanoTime();
+        } else if (!changed.isEmpty()) {
+          reload(changed);
+          changed.clear();
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      // the watcher was closed
+    }
+  }
+
+  private void collect(WatchKey key, Set<Path> changed) {
+    var directory = (Path) key.watchable();
+    for (var event : key.pollEvents()) {
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+        // events were lost, every file of the directory may have changed
+        bundles.forEach(bundle -> bundle.getFiles().stream()
+            .filter(file -> directory.equals(file.getParent()))
+            .forEach(changed::add));
+      } else {
+        changed.add(directory.resolve((Path) event.context()));
+      }
+    }
+    key.reset();
+  }
+
+  private void reload(Set<Path> changed) {
+    for (var file : changed) {
+      for (var bundle : bundles) {
+        try {
+          bundle.reload(file);
+        } catch (RuntimeException e) {
+          // a failing listener must not stop the watcher
+          thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact, read-only {@link Map} of strings for bundles that no longer change after being loaded.
+ * Keys and values are stored next to each other in a single array, and collisions are resolved by
+ * linear probing, so there is no entry object per mapping as in {@link java.util.HashMap}. The table is
+ * kept at most half full, which bounds the probe sequences of both hits and misses.
+ * <p>All mutating methods throw {@link UnsupportedOperationException}.</p>
+ */
+final class CompactStringMap extends AbstractMap<String, String> {
+  /**
+   * Keys at even indexes, each followed by its value
+   */
+  private final String[] table;
+  private final int mask;
+  private final int size;
+
+  /**
+   * Copies the given map, null keys and values are not supported
+   *
+   * @param source the mappings to be copied
+   */
+  CompactStringMap(Map<String, String> source) {
+    var capacity = Integer.highestOneBit(Math.max(1, source.size() * 2 - 1)) << 1;
+    this.table = new String[capacity * 2];
+    this.mask = capacity - 1;
+    this.size = source.size();
+    source.forEach((key, value) -> {
+      var i = indexOf(key);
+      table[i] = key;
+      table[i + 1] = value;
+    });
+  }
+
+  /**
+   * Finds the slot of the given key, or the empty slot where it would be stored
+   */
+  private int indexOf(Object key) {
+    var hash = key.hashCode();
+    var slot = (hash ^ (hash >>> 16)) & mask;
+    while (true) {
+      var i = slot << 1;
+      var candidate = table[i];
+      if (candidate == null || candidate == key || candidate.equals(key)) {
+        return i;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  @Override
+  public String get(Object key) {
+    return key instanceof String ? table[indexOf(key) + 1] : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof String && table[indexOf(key)] != null;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, String>> iterator() {
+        return new Iterator<>() {
+          private int next = advance(0);
+
+          private int advance(int from) {
+            var i = from;
+            while (i < table.length && table[i] == null) {
+              i += 2;
+            }
+            return i;
+          }
+
+          @Override
+          public boolean hasNext() {
+            return next < table.length;
+          }
+
+          @Override
+          public Entry<String, String> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            var entry = new SimpleImmutableEntry<>(table[next], table[next + 1]);
+            next = advance(next + 2);
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+}
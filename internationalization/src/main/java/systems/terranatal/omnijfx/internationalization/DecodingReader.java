@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link Reader} decoding bytes on demand, either from a {@link ByteBuffer} holding the whole content, e.g. a
+ * mapped file, or from a {@link ReadableByteChannel} read through a buffer sized after the length of the resource.
+ * Characters are decoded straight into the arrays given to {@link #read(char[], int, int)} by a single
+ * {@link CharsetDecoder}, so the contents are never copied into an intermediate char array. Malformed input is
+ * replaced like in {@link java.io.InputStreamReader}.
+ * <p>A leading byte order mark is skipped when the charset is UTF-8 or one of the UTF-16 ones, and for the latter
+ * it also decides the byte order, so a bundle saved as UTF-16 with a BOM can be read with
+ * {@link StandardCharsets#UTF_16BE} or {@link StandardCharsets#UTF_16LE} alike.</p>
+ */
+class DecodingReader extends Reader {
+  /**
+   * The smallest channel buffer, it holds at least a byte order mark and an incomplete character
+   */
+  static final int MIN_BUFFER_SIZE = 64;
+  /**
+   * The largest channel buffer, resources up to this size are read at once
+   */
+  static final int MAX_BUFFER_SIZE = 64 * 1024;
+  /**
+   * The buffer size when the length of the resource is unknown
+   */
+  static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  private final ReadableByteChannel channel;
+  private final ByteBuffer source;
+  private final Charset charset;
+  private CharsetDecoder decoder;
+  /**
+   * Holds the second char of a surrogate pair when the caller asks for a single char
+   */
+  private final CharBuffer pending = CharBuffer.allocate(2).flip();
+  private boolean drained;
+  private boolean endOfInput;
+  private boolean flushed;
+  private boolean closed;
+
+  /**
+   * Initializes a reader over the remaining bytes of a buffer
+   *
+   * @param source the whole content
+   * @param charset the encoding scheme of the content
+   */
+  DecodingReader(ByteBuffer source, Charset charset) {
+    this.channel = null;
+    this.source = source;
+    this.charset = charset;
+    this.drained = true;
+  }
+
+  /**
+   * Initializes a reader over a channel, which is closed along with this reader
+   *
+   * @param channel the channel to the content
+   * @param length the length of the content in bytes, or a negative value if it is unknown
+   * @param charset the encoding scheme of the content
+   */
+  DecodingReader(ReadableByteChannel channel, long length, Charset charset) {
+    this.channel = channel;
+    this.source = ByteBuffer.allocate(bufferSize(length)).flip();
+    this.charset = charset;
+  }
+
+  /**
+   * Chooses the size of the buffer of a channel
+   *
+   * @param length the length of the content in bytes, or a negative value if it is unknown
+   * @return the buffer size
+   */
+  static int bufferSize(long length) {
+    if (length < 0) {
+      return DEFAULT_BUFFER_SIZE;
+    }
+    // one byte more than the content so that the end of the channel is found without resizing anything
+    return (int) Math.min(Math.max(length + 1, MIN_BUFFER_SIZE), MAX_BUFFER_SIZE);
+  }
+
+  /**
+   * Opens a file through a {@link FileChannel}
+   *
+   * @param path the path to the file
+   * @param charset the encoding scheme of the file
+   * @return the reader to the file contents
+   * @throws IOException if the file cannot be opened
+   */
+  static DecodingReader open(Path path, Charset charset) throws IOException {
+    var channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new DecodingReader(channel, channel.size(), charset);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Opens a resource given by a URL. {@code file:} URLs are read through a {@link FileChannel} and {@code jar:}
+   * URLs through the entry of the JAR file, both with their length known in advance, other URLs through their
+   * {@link java.net.URLConnection}. JAR files are opened without the JDK's cache, so the file is closed together
+   * with the reader.
+   *
+   * @param url the location of the resource
+   * @param charset the encoding scheme of the resource
+   * @return the reader to the resource contents
+   * @throws IOException if the resource cannot be opened
+   */
+  static DecodingReader open(URL url, Charset charset) throws IOException {
+    if ("file".equals(url.getProtocol())) {
+      try {
+        return open(Path.of(url.toURI()), charset);
+      } catch (URISyntaxException | IllegalArgumentException e) {
+        throw new IOException("%s is not a valid file URL.".formatted(url), e);
+      }
+    }
+    var connection = url.openConnection();
+    if (connection instanceof JarURLConnection) {
+      // a cached JarFile is shared by the whole JVM and never closed, this one is closed along with the stream
+      connection.setUseCaches(false);
+    }
+    var length = connection instanceof JarURLConnection jar && jar.getJarEntry() != null
+        ? jar.getJarEntry().getSize()
+        : connection.getContentLengthLong();
+    return new DecodingReader(Channels.newChannel(connection.getInputStream()), length, charset);
+  }
+
+  @Override
+  public int read(char[] cbuf, int off, int len) throws IOException {
+    if (closed) {
+      throw new IOException("Reader closed");
+    }
+    if (len == 0) {
+      return 0;
+    }
+    if (decoder == null) {
+      decoder = detectDecoder();
+    }
+    var target = CharBuffer.wrap(cbuf, off, len);
+    while (pending.hasRemaining() && target.hasRemaining()) {
+      target.put(pending.get());
+    }
+    if (target.remaining() == 1 && !flushed) {
+      // a surrogate pair does not fit in a single char, decode into the pending buffer instead
+      pending.clear();
+      decodeInto(pending);
+      pending.flip();
+      if (pending.hasRemaining()) {
+        target.put(pending.get());
+      }
+    } else {
+      decodeInto(target);
+    }
+    var read = target.position() - off;
+    return read == 0 ? -1 : read;
+  }
+
+  private CharsetDecoder detectDecoder() throws IOException {
+    while (source.remaining() < 3 && !drained) {
+      fill();
+    }
+    var actual = charset;
+    if (charset.equals(StandardCharsets.UTF_8)) {
+      if (startsWith((byte) 0xEF, (byte) 0xBB, (byte) 0xBF)) {
+        source.position(source.position() + 3);
+      }
+    } else if (charset.equals(StandardCharsets.UTF_16) || charset.equals(StandardCharsets.UTF_16BE)
+        || charset.equals(StandardCharsets.UTF_16LE)) {
+      if (startsWith((byte) 0xFE, (byte) 0xFF)) {
+        source.position(source.position() + 2);
+        actual = StandardCharsets.UTF_16BE;
+      } else if (startsWith((byte) 0xFF, (byte) 0xFE)) {
+        source.position(source.position() + 2);
+        actual = StandardCharsets.UTF_16LE;
+      }
+    }
+    return actual.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  }
+
+  private boolean startsWith(byte... mark) {
+    if (source.remaining() < mark.length) {
+      return false;
+    }
+    for (int i = 0; i < mark.length; i++) {
+      if (source.get(source.position() + i) != mark[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void decodeInto(CharBuffer target) throws IOException {
+    while (!endOfInput) {
+      var last = drained;
+      if (decoder.decode(source, target, last).isOverflow()) {
+        return;
+      }
+      if (last) {
+        endOfInput = true;
+      } else {
+        fill();
+      }
+    }
+    if (!flushed && decoder.flush(target).isUnderflow()) {
+      flushed = true;
+    }
+  }
+
+  /**
+   * Reads more bytes from the channel after the ones not decoded yet
+   */
+  private void fill() throws IOException {
+    source.compact();
+    try {
+      int read;
+      do {
+        read = channel.read(source);
+      } while (read == 0 && source.hasRemaining());
+      drained = read < 0;
+    } finally {
+      source.flip();
+    }
+  }
+
+  @Override
+  public boolean ready() {
+    return !closed && (pending.hasRemaining() || source.hasRemaining());
+  }
+
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    if (channel != null) {
+      channel.close();
+    }
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A {@link ResourceBundle} that merges a chain of bundles, from the most specific locale to the least
+ * specific one, e.g. {@code pt_BR -> pt -> root}. The chain is resolved once, when this bundle is built,
+ * into a single {@link Map} in which each key holds the value of the most specific layer that defines it,
+ * so every lookup is a single probe regardless of the depth of the chain.
+ * <p>This class also records the layer each value came from, which makes it possible to report the keys that
+ * are still missing a translation in the most specific locale, see
+ * {@link FallbackResourceBundle#missingTranslations()}.</p>
+ */
+public class FallbackResourceBundle extends ResourceBundle {
+  private final List<Locale> layers;
+  /**
+   * The locale of the layer each key came from, only for the keys not defined by a layer of this bundle's locale
+   */
+  private final Map<String, Locale> fallbacks;
+
+  /**
+   * Merges the given chain of bundles
+   *
+   * @param chain the bundles, ordered from the most specific to the least specific locale. The locale and
+   *              charset of this bundle are the ones of the first element.
+   * @throws IllegalArgumentException if the chain is empty
+   */
+  public FallbackResourceBundle(List<? extends ResourceBundle> chain) {
+    this(first(chain).locale, chain);
+  }
+
+  /**
+   * Merges the given chain of bundles on behalf of the requested locale, which may have no layer of its own,
+   * e.g. when only the root file exists. The keys that do not come from a layer of that locale are reported by
+   * {@link #missingTranslations()}.
+   *
+   * @param locale the requested locale, the locale of this bundle
+   * @param chain the bundles, ordered from the most specific to the least specific locale. The charset of this
+   *              bundle is the one of the first element.
+   * @throws IllegalArgumentException if the chain is empty
+   */
+  public FallbackResourceBundle(Locale locale, List<? extends ResourceBundle> chain) {
+    super(new HashMap<>(capacityFor(chain)), locale, first(chain).charset);
+    var fallbackMap = new HashMap<String, Locale>();
+    var layerLocales = new ArrayList<Locale>(chain.size());
+    for (var layer : chain) {
+      var fallback = !locale.equals(layer.locale);
+      layerLocales.add(layer.locale);
+      layer.asMap().forEach((key, value) -> {
+        if (resources.putIfAbsent(key, value) == null && fallback) {
+          fallbackMap.put(key, layer.locale);
+        }
+      });
+    }
+    this.layers = Collections.unmodifiableList(layerLocales);
+    this.fallbacks = fallbackMap;
+  }
+
+  private static ResourceBundle first(List<? extends ResourceBundle> chain) {
+    if (chain.isEmpty()) {
+      throw new IllegalArgumentException("The chain of bundles must not be empty");
+    }
+    return chain.get(0);
+  }
+
+  private static int capacityFor(List<? extends ResourceBundle> chain) {
+    var size = chain.stream().mapToInt(bundle -> bundle.asMap().size()).max().orElse(0);
+    return (int) (size / 0.75f) + 1;
+  }
+
+  /**
+   * Computes the chain of candidate locales for the given one, following the same rules as
+   * {@link java.util.ResourceBundle.Control#getCandidateLocales(String, Locale)}, e.g.
+   * {@code [pt_BR, pt, root]} for {@code pt_BR}
+   *
+   * @param locale the most specific locale
+   * @return the candidate locales, ending with {@link Locale#ROOT}
+   */
+  public static List<Locale> fallbackChain(Locale locale) {
+    return java.util.ResourceBundle.Control.getNoFallbackControl(java.util.ResourceBundle.Control.FORMAT_DEFAULT)
+        .getCandidateLocales("", locale);
+  }
+
+  /**
+   * Computes the name of the file of a layer, in the same way as Java's resource bundles, e.g.
+   * {@code messages_pt_BR.yaml} for the base name {@code messages}, {@code pt_BR} and the {@code .yaml} extension
+   *
+   * @param baseName the name shared by all files of the bundle, may include a path
+   * @param locale the locale of the layer, the root locale yields {@code baseName + extension}
+   * @param extension the file extension, including the dot
+   * @return the file name
+   */
+  public static String fileName(String baseName, Locale locale, String extension) {
+    return java.util.ResourceBundle.Control.getControl(java.util.ResourceBundle.Control.FORMAT_DEFAULT)
+        .toBundleName(baseName, locale) + extension;
+  }
+
+  /**
+   * Loads each file of the fallback chain of {@code locale} that exists and merges them. The files the
+   * loader does not find are skipped, any other failure is thrown. The merged bundle has the requested
+   * locale, even when it has no file of its own.
+   *
+   * @param baseName the name shared by all files of the bundle, see {@link FallbackResourceBundle#fileName(String, Locale, String)}
+   * @param extension the file extension, including the dot
+   * @param locale the most specific locale
+   * @param charset the encoding scheme of the files
+   * @param loader opens the files
+   * @param factory parses the files
+   * @return the merged bundle
+   * @throws ResourceNotFoundException if none of the files exists
+   * @throws ResourceLoadingException if a file exists but cannot be loaded
+   */
+  public static FallbackResourceBundle load(String baseName, String extension, Locale locale, Charset charset,
+                                            Loader loader, BundleFactory factory) {
+    return load(baseName, extension, locale, loader, candidate ->
+        factory.load(loader, fileName(baseName, candidate, extension), candidate, charset));
+  }
+
+  /**
+   * Does the same as {@link FallbackResourceBundle#load(String, String, Locale, Charset, Loader, BundleFactory)}
+   * but retrieves the layers from the given {@link BundleRegistry}, so that they are shared with other chains,
+   * e.g. the root bundle.
+   *
+   * @param baseName the name shared by all files of the bundle
+   * @param extension the file extension, including the dot
+   * @param locale the most specific locale
+   * @param charset the encoding scheme of the files
+   * @param loader opens the files
+   * @param factory parses the files
+   * @param registry caches the layers
+   * @return the merged bundle
+   * @throws ResourceNotFoundException if none of the files exists
+   * @throws ResourceLoadingException if a file exists but cannot be loaded
+   */
+  public static FallbackResourceBundle load(String baseName, String extension, Locale locale, Charset charset,
+                                            Loader loader, BundleFactory factory, BundleRegistry registry) {
+    return load(baseName, extension, locale, loader, candidate ->
+        registry.get(fileName(baseName, candidate, extension), candidate, charset, loader, factory));
+  }
+
+  private static FallbackResourceBundle load(String baseName, String extension, Locale locale, Loader loader,
+                                             Function<Locale, ResourceBundle> layerLoader) {
+    var chain = new ArrayList<ResourceBundle>();
+    var probed = new ArrayList<String>();
+    for (var candidate : fallbackChain(locale)) {
+      var fileName = fileName(baseName, candidate, extension);
+      probed.add(fileName);
+      if (!loader.exists(fileName)) {
+        continue;
+      }
+      try {
+        chain.add(layerLoader.apply(candidate));
+      } catch (ResourceNotFoundException e) {
+        // the loader cannot tell in advance or the file was removed in the meantime
+      }
+    }
+    if (chain.isEmpty()) {
+      throw ResourceLoadingFailureEvent.record(new ResourceNotFoundException(
+          fileName(baseName, locale, extension), ResourceLoadingException.source(loader), probed));
+    }
+    return new FallbackResourceBundle(locale, chain);
+  }
+
+  /**
+   * Retrieves the locales of the layers that were merged, from the most specific to the least specific one
+   *
+   * @return the locales of the layers
+   */
+  public List<Locale> getLayers() {
+    return layers;
+  }
+
+  /**
+   * Retrieves the locale of the layer that provided the value of a key
+   *
+   * @param key the resource key
+   * @return the locale of the layer or an empty {@link Optional} if no layer defines the key
+   */
+  public Optional<Locale> sourceOf(String key) {
+    if (key == null || !resources.containsKey(key)) {
+      return Optional.empty();
+    }
+    return Optional.of(fallbacks.getOrDefault(key, locale));
+  }
+
+  /**
+   * Retrieves the keys whose values came from a less specific layer, i.e. the keys lacking a translation in
+   * this bundle's locale
+   *
+   * @return the keys missing in the most specific layer
+   */
+  public Set<String> missingTranslations() {
+    return Collections.unmodifiableSet(fallbacks.keySet());
+  }
+}
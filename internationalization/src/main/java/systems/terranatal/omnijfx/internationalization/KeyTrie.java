@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Index of the keys of a bundle by their dot-separated segments, e.g. {@code messages.formatted.title}
+ * is stored under the nodes {@code messages -> formatted -> title}. It finds the keys under a prefix in
+ * time proportional to the number of segments of the prefix plus the number of keys found, whatever the
+ * size of the bundle, and caches them in the node of the prefix together with the map and the view of its
+ * {@link ResourceBundle.ScopedResourceBundle scope}.
+ * <p>The index is immutable once built; nodes fill their caches on first use, which is safe to race
+ * since every thread computes the same content.</p>
+ */
+final class KeyTrie {
+  private final Node root = new Node();
+  private final Map<String, String> resources;
+
+  /**
+   * Indexes all the keys of the given resources
+   *
+   * @param resources the resources of a bundle, which must not change afterward
+   */
+  KeyTrie(Map<String, String> resources) {
+    this.resources = resources;
+    for (var key : resources.keySet()) {
+      var node = root;
+      var start = 0;
+      for (int dot = key.indexOf('.'); dot >= 0; dot = key.indexOf('.', start)) {
+        node = node.child(key.substring(start, dot));
+        start = dot + 1;
+      }
+      node = node.child(key.substring(start));
+      node.key = key;
+    }
+  }
+
+  /**
+   * Finds the node of the given prefix
+   *
+   * @param prefix a dot-separated prefix, an empty prefix is the root of the index
+   * @return the node, or null if no key starts with the prefix
+   */
+  private Node find(String prefix) {
+    var node = root;
+    if (prefix.isEmpty()) {
+      return node;
+    }
+    var start = 0;
+    for (int dot = prefix.indexOf('.'); dot >= 0 && node != null; dot = prefix.indexOf('.', start)) {
+      node = node.children.get(prefix.substring(start, dot));
+      start = dot + 1;
+    }
+    return node == null ? null : node.children.get(prefix.substring(start));
+  }
+
+  /**
+   * Lists the keys equal to the prefix or starting with the prefix followed by a dot
+   *
+   * @param prefix the dot-separated prefix
+   * @return the full keys, in no particular order
+   */
+  List<String> keysUnder(String prefix) {
+    var node = find(prefix);
+    if (node == null) {
+      return List.of();
+    }
+    var keys = node.keys;
+    if (keys == null) {
+      var collected = new ArrayList<String>();
+      var pending = new ArrayDeque<Node>();
+      pending.push(node);
+      while (!pending.isEmpty()) {
+        var current = pending.pop();
+        if (current.key != null) {
+          collected.add(current.key);
+        }
+        current.children.values().forEach(pending::push);
+      }
+      keys = List.copyOf(collected);
+      node.keys = keys;
+    }
+    return keys;
+  }
+
+  /**
+   * Maps the keys strictly under the prefix to their values, with the prefix and its dot removed
+   *
+   * @param prefix the dot-separated prefix, not empty
+   * @return a compact read-only map of the relative keys
+   */
+  Map<String, String> scope(String prefix) {
+    var node = find(prefix);
+    if (node == null) {
+      return Map.of();
+    }
+    var scoped = node.scoped;
+    if (scoped == null) {
+      var relative = new HashMap<String, String>();
+      var offset = prefix.length() + 1;
+      for (var key : keysUnder(prefix)) {
+        if (key.length() > offset) {
+          relative.put(key.substring(offset), resources.get(key));
+        }
+      }
+      scoped = new CompactStringMap(relative);
+      node.scoped = scoped;
+    }
+    return scoped;
+  }
+
+  /**
+   * Retrieves the view of the scope of the prefix, creating it from {@link KeyTrie#scope(String)} on first use.
+   * Views of prefixes that no key starts with are not cached, since any string can be asked for.
+   *
+   * @param prefix the dot-separated prefix, not empty
+   * @param factory creates the view of a scope from its map
+   * @return the view of the scope
+   */
+  ResourceBundle view(String prefix, Function<Map<String, String>, ResourceBundle> factory) {
+    var node = find(prefix);
+    if (node == null) {
+      return factory.apply(Map.of());
+    }
+    var view = node.view;
+    if (view == null) {
+      view = factory.apply(scope(prefix));
+      node.view = view;
+    }
+    return view;
+  }
+
+  private static final class Node {
+    private final Map<String, Node> children = new HashMap<>(4);
+    /**
+     * The full key ending at this node, if any
+     */
+    private String key;
+    private volatile List<String> keys;
+    private volatile Map<String, String> scoped;
+    private volatile ResourceBundle view;
+
+    Node child(String segment) {
+      return children.computeIfAbsent(segment, s -> new Node());
+    }
+  }
+}
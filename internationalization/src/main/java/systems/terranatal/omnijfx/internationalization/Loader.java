@@ -30,22 +30,41 @@
 
 package systems.terranatal.omnijfx.internationalization;
 
-import java.io.FileInputStream;
+import java.io.Closeable;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IllformedLocaleException;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 /**
  * This class loads files as {@link Reader}s so that it can be used by any subclass of
  * {@link ResourceBundle} to parse its contents into a {@link java.util.Map} of resources.
+ * The built-in loaders read through channels with buffers sized after the resource length and decode the
+ * bytes directly, skipping the byte order mark of UTF-8 and UTF-16 files.
  */
 public interface Loader {
 
@@ -65,6 +84,27 @@ public interface Loader {
    */
   Reader loadResource(URL fileName, Charset charset);
 
+  /**
+   * Checks if a resource exists without opening it, so that optional files can be skipped without the cost
+   * of a failed attempt. The built-in loaders look the name up in their source, this default implementation
+   * cannot tell and returns true, leaving {@link #loadResource(String, Charset)} to throw a
+   * {@link ResourceNotFoundException}.
+   *
+   * @param fileName the name of the file according to the loading method, eg. classpath local file
+   * @return false if the resource is known to be missing
+   */
+  default boolean exists(String fileName) {
+    return true;
+  }
+
+  private static boolean isRegularFile(String fileName) {
+    try {
+      return Files.isRegularFile(Paths.get(fileName));
+    } catch (InvalidPathException e) {
+      return false;
+    }
+  }
+
   private static boolean isSystemDefault(Locale locale) {
     return Locale.getDefault().equals(locale);
   }
@@ -94,6 +134,23 @@ public interface Loader {
       this(Thread.currentThread().getContextClassLoader());
     }
 
+    /**
+     * Two classpath loaders are equal when they use the same {@link ClassLoader}, so that they can
+     * be used as cache keys, e.g. in {@link BundleRegistry}
+     *
+     * @param o the other object
+     * @return true if {@code o} is a {@link Classpath} loader with the same {@code userClassLoader}
+     */
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Classpath other && other.userClassLoader == userClassLoader;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(userClassLoader);
+    }
+
     /**
      * Loads the resource using the {@code userClassLoader}
      * @param fileName the name of the file to be loaded
@@ -102,15 +159,32 @@ public interface Loader {
      * @throws ResourceLoadingException if the file could not be found or opened
      */
     public Reader loadResource(String fileName, Charset charset) {
-      InputStream in = userClassLoader.getResourceAsStream(fileName);
-      if (in == null) {
-        throw ResourceLoadingException.fromClasspath(fileName, "%s not found.".formatted(fileName));
+      var url = userClassLoader.getResource(fileName);
+      if (url == null) {
+        throw ResourceLoadingFailureEvent.record(new ResourceNotFoundException(fileName,
+            ResourceLoadingException.CLASSPATH));
+      }
+      try {
+        return DecodingReader.open(url, charset);
+      } catch (IOException e) {
+        throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromClasspath(fileName, e));
       }
-      return new InputStreamReader(in, charset);
     }
 
     /**
-     * Loads the resource represented as a URL using {@link java.nio} API
+     * Checks if the {@code userClassLoader} finds the resource
+     *
+     * @param fileName the name of the file
+     * @return true if the resource is in the classpath
+     */
+    @Override
+    public boolean exists(String fileName) {
+      return userClassLoader.getResource(fileName) != null;
+    }
+
+    /**
+     * Loads the resource represented as a URL using {@link java.nio} API. Both {@code file:} URLs and the
+     * {@code jar:} URLs of resources packaged in JAR files are read through channels.
      * @param fileName the file location as a URL
      * @param charset the encoding scheme of the file
      * @return a {@link Reader} for the given file contents
@@ -119,10 +193,12 @@ public interface Loader {
     @Override
     public Reader loadResource(URL fileName, Charset charset) {
       try {
-        var file = Paths.get(fileName.toURI()).toFile();
-        return new InputStreamReader(new FileInputStream(file), charset);
-      } catch (URISyntaxException | FileNotFoundException e) {
-        throw ResourceLoadingException.fromClasspath(fileName.toString(), e);
+        return DecodingReader.open(fileName, charset);
+      } catch (NoSuchFileException | FileNotFoundException e) {
+        throw ResourceLoadingFailureEvent.record(new ResourceNotFoundException(fileName.toString(),
+            ResourceLoadingException.CLASSPATH, e));
+      } catch (IOException e) {
+        throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromClasspath(fileName.toString(), e));
       }
     }
   }
@@ -132,6 +208,22 @@ public interface Loader {
    */
   class LocalFile implements Loader {
 
+    /**
+     * All local file loaders are stateless and thus equal to each other
+     *
+     * @param o the other object
+     * @return true if {@code o} is also a {@link LocalFile} loader
+     */
+    @Override
+    public boolean equals(Object o) {
+      return o != null && o.getClass() == getClass();
+    }
+
+    @Override
+    public int hashCode() {
+      return LocalFile.class.hashCode();
+    }
+
     /**
      * Loads a file from the host's filesystem.
      *
@@ -143,12 +235,26 @@ public interface Loader {
      */
     public Reader loadResource(String fileName, Charset charset) {
       try {
-        return Files.newBufferedReader(Paths.get(fileName), charset);
+        return DecodingReader.open(Paths.get(fileName), charset);
+      } catch (NoSuchFileException e) {
+        throw ResourceLoadingFailureEvent.record(new ResourceNotFoundException(fileName,
+            ResourceLoadingException.HOST_FILE_SYSTEM, e));
       } catch (IOException e) {
-        throw ResourceLoadingException.fromLocalFileSystem(fileName, e);
+        throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromLocalFileSystem(fileName, e));
       }
     }
 
+    /**
+     * Checks if the path is a regular file
+     *
+     * @param fileName the full or relative path to the resource file
+     * @return true if the file exists
+     */
+    @Override
+    public boolean exists(String fileName) {
+      return isRegularFile(fileName);
+    }
+
     /**
      * Loads a file represented by the given URL
      * @param fileName the name of the file as a URL
@@ -159,11 +265,397 @@ public interface Loader {
     @Override
     public Reader loadResource(URL fileName, Charset charset) {
       try {
-        var file = Paths.get(fileName.toURI()).toFile();
-        return new InputStreamReader(new FileInputStream(file), charset);
-      } catch (URISyntaxException | FileNotFoundException e) {
-        throw ResourceLoadingException.fromLocalFileSystem(fileName.toString(), e);
+        return DecodingReader.open(fileName, charset);
+      } catch (NoSuchFileException | FileNotFoundException e) {
+        throw ResourceLoadingFailureEvent.record(new ResourceNotFoundException(fileName.toString(),
+            ResourceLoadingException.HOST_FILE_SYSTEM, e));
+      } catch (IOException e) {
+        throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromLocalFileSystem(fileName.toString(), e));
+      }
+    }
+  }
+
+  /**
+   * A {@link Loader} which memory-maps files from the host's filesystem through {@link FileChannel#map}.
+   * The {@link Reader}s it returns decode the mapped bytes on demand, and {@link #loadBuffer(String)}
+   * exposes them directly, e.g. for a {@link systems.terranatal.omnijfx.internationalization.binary.BinaryResourceBundle},
+   * so large files are never copied into heap arrays.
+   * <p>The mapping is released by the garbage collector once the returned reader or buffer is no longer
+   * reachable. On some platforms a mapped file cannot be deleted or replaced until then.</p>
+   */
+  class MappedFile implements Loader, BufferLoader {
+
+    /**
+     * All mapped file loaders are stateless and thus equal to each other
+     *
+     * @param o the other object
+     * @return true if {@code o} is also a {@link MappedFile} loader
+     */
+    @Override
+    public boolean equals(Object o) {
+      return o != null && o.getClass() == getClass();
+    }
+
+    @Override
+    public int hashCode() {
+      return MappedFile.class.hashCode();
+    }
+
+    /**
+     * Maps a file from the host's filesystem and decodes it lazily
+     *
+     * @param fileName the full or relative path to the resource file
+     * @param charset the encoding scheme of the file
+     * @return the {@link Reader} for the file contents
+     * @throws ResourceLoadingException with the underlying {@link IOException} if the system cannot
+     *  map the file
+     */
+    @Override
+    public Reader loadResource(String fileName, Charset charset) {
+      return new DecodingReader(loadBuffer(fileName), charset);
+    }
+
+    /**
+     * Maps a file represented by the given URL and decodes it lazily
+     *
+     * @param fileName the name of the file as a URL
+     * @param charset the encoding scheme of the file
+     * @return a {@link Reader} for the given file contents
+     * @throws ResourceLoadingException if the URL cannot be converted to a path or if the file cannot be mapped
+     */
+    @Override
+    public Reader loadResource(URL fileName, Charset charset) {
+      return new DecodingReader(loadBuffer(fileName), charset);
+    }
+
+    /**
+     * Maps a file from the host's filesystem
+     *
+     * @param fileName the full or relative path to the resource file
+     * @return a read-only buffer over the whole file
+     * @throws ResourceLoadingException with the underlying {@link IOException} if the system cannot
+     *  map the file
+     */
+    @Override
+    public ByteBuffer loadBuffer(String fileName) {
+      return map(Paths.get(fileName), fileName);
+    }
+
+    /**
+     * Checks if the path is a regular file
+     *
+     * @param fileName the full or relative path to the resource file
+     * @return true if the file exists
+     */
+    @Override
+    public boolean exists(String fileName) {
+      return isRegularFile(fileName);
+    }
+
+    /**
+     * Maps a file represented by the given URL
+     *
+     * @param fileName the name of the file as a URL
+     * @return a read-only buffer over the whole file
+     * @throws ResourceLoadingException if the URL cannot be converted to a path or if the file cannot be mapped
+     */
+    @Override
+    public ByteBuffer loadBuffer(URL fileName) {
+      try {
+        return map(Paths.get(fileName.toURI()), fileName.toString());
+      } catch (URISyntaxException | IllegalArgumentException e) {
+        throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromLocalFileSystem(fileName.toString(), e));
+      }
+    }
+
+    private static ByteBuffer map(Path path, String resourceName) {
+      try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        var size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+          throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromLocalFileSystem(resourceName,
+              "%s is too large to be mapped (%d bytes).".formatted(resourceName, size)));
+        }
+        // the mapping stays valid after the channel is closed
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      } catch (NoSuchFileException e) {
+        throw ResourceLoadingFailureEvent.record(new ResourceNotFoundException(resourceName,
+            ResourceLoadingException.HOST_FILE_SYSTEM, e));
+      } catch (IOException e) {
+        throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromLocalFileSystem(resourceName, e));
+      }
+    }
+  }
+
+  /**
+   * A {@link Loader} serving the bundles packed in a single ZIP or JAR archive. The archive is opened once and its
+   * entries are indexed by name, so every resource, whatever its locale, is found with a map lookup and read with
+   * random access instead of a {@link ClassLoader} search followed by a new stream.
+   * Entries can be asked for by name or by base name and locale, and their bytes can be handed to the parsers that
+   * read buffers, e.g. {@link systems.terranatal.omnijfx.internationalization.binary.BinaryResourceBundle}.
+   * <p>Instances are thread-safe and keep the archive open until they are closed. Each one has its own
+   * {@link ZipFile}, so two archive loaders are equal only if they are the same instance.</p>
+   */
+  class Archive implements Loader, BufferLoader, Closeable {
+    private final Path path;
+    private final ZipFile zip;
+    private final Map<String, ZipEntry> entries;
+
+    /**
+     * Opens and indexes the archive
+     *
+     * @param path the path to the ZIP or JAR file
+     * @throws ResourceLoadingException if the archive cannot be opened
+     */
+    public Archive(Path path) {
+      this.path = path.toAbsolutePath().normalize();
+      try {
+        this.zip = new ZipFile(this.path.toFile());
+      } catch (IOException e) {
+        throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromLocalFileSystem(path.toString(), e));
       }
+      var index = new HashMap<String, ZipEntry>();
+      zip.stream().filter(entry -> !entry.isDirectory()).forEach(entry -> index.put(entry.getName(), entry));
+      this.entries = Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Retrieves the location of the archive
+     * @return the absolute path of the archive
+     */
+    public Path getPath() {
+      return path;
+    }
+
+    /**
+     * Retrieves the names of all files in the archive
+     * @return the entry names, without the directories
+     */
+    public Set<String> entryNames() {
+      return entries.keySet();
+    }
+
+    /**
+     * Checks if the archive has a file without opening it
+     *
+     * @param fileName the name of the entry, a leading slash is ignored
+     * @return true if the entry exists
+     */
+    public boolean contains(String fileName) {
+      return entries.containsKey(entryName(fileName));
+    }
+
+    /**
+     * Checks if the archive has a file, same as {@link #contains(String)}
+     *
+     * @param fileName the name of the entry, a leading slash is ignored
+     * @return true if the entry exists
+     */
+    @Override
+    public boolean exists(String fileName) {
+      return contains(fileName);
+    }
+
+    /**
+     * Lists the locales for which the archive has a file of the given bundle, following the naming rules of
+     * {@link FallbackResourceBundle#fileName(String, Locale, String)}
+     *
+     * @param baseName the name shared by all files of the bundle, may include a path
+     * @param extension the file extension, including the dot
+     * @return the locales, {@link Locale#ROOT} standing for the file without a locale suffix
+     */
+    public Set<Locale> locales(String baseName, String extension) {
+      var prefix = entryName(baseName);
+      var locales = new HashSet<Locale>();
+      for (var name : entries.keySet()) {
+        if (!name.startsWith(prefix) || !name.endsWith(extension)
+            || name.length() < prefix.length() + extension.length()) {
+          continue;
+        }
+        var suffix = name.substring(prefix.length(), name.length() - extension.length());
+        if (suffix.isEmpty()) {
+          locales.add(Locale.ROOT);
+        } else if (suffix.charAt(0) == '_') {
+          var locale = toLocale(suffix.substring(1));
+          // e.g. a different case or a legacy variant after a script cannot be named back to the same file
+          if (locale != null && FallbackResourceBundle.fileName(prefix, locale, extension).equals(name)) {
+            locales.add(locale);
+          }
+        }
+      }
+      return locales;
+    }
+
+    /**
+     * Parses a locale suffix as written by {@link java.util.ResourceBundle.Control#toBundleName(String, Locale)}
+     *
+     * @return the locale or null if the suffix is not one, e.g. {@code extra} or {@code old}, which are well-formed
+     * language subtags but no language known to the JDK
+     */
+    private static Locale toLocale(String suffix) {
+      var parts = suffix.split("_", -1);
+      if (!KnownLanguages.CODES.contains(parts[0])) {
+        return null;
+      }
+      var builder = new Locale.Builder();
+      try {
+        builder.setLanguage(parts[0]);
+        var next = 1;
+        var script = parts.length > next && parts[next].length() == 4;
+        if (script) {
+          builder.setScript(parts[next++]);
+        }
+        if (parts.length > next) {
+          builder.setRegion(parts[next++]);
+        }
+        if (parts.length > next) {
+          var variant = String.join("_", Arrays.copyOfRange(parts, next, parts.length));
+          try {
+            builder.setVariant(variant);
+          } catch (IllformedLocaleException e) {
+            // legacy variants such as the NY of no_NO_NY can only be built without a script
+            return script ? null : Locale.of(parts[0], parts[next - 1], variant);
+          }
+        }
+        return builder.build();
+      } catch (IllformedLocaleException e) {
+        return null;
+      }
+    }
+
+    /**
+     * The ISO 639 languages plus the ones of the locales available in the JDK, loaded on first use
+     */
+    private static final class KnownLanguages {
+      private static final Set<String> CODES = codes();
+
+      private static Set<String> codes() {
+        var codes = new HashSet<>(Arrays.asList(Locale.getISOLanguages()));
+        for (var locale : Locale.getAvailableLocales()) {
+          codes.add(locale.getLanguage());
+        }
+        codes.remove("");
+        return Set.copyOf(codes);
+      }
+    }
+
+    /**
+     * Opens the file of a bundle for the given locale
+     *
+     * @param baseName the name shared by all files of the bundle, may include a path
+     * @param locale the locale of the file
+     * @param extension the file extension, including the dot
+     * @param charset the encoding scheme of the file
+     * @return the {@link Reader} for the file contents
+     * @throws ResourceLoadingException if the archive has no such file or it cannot be read
+     */
+    public Reader loadResource(String baseName, Locale locale, String extension, Charset charset) {
+      return loadResource(FallbackResourceBundle.fileName(baseName, locale, extension), charset);
+    }
+
+    /**
+     * Opens an entry of the archive
+     *
+     * @param fileName the name of the entry, a leading slash is ignored
+     * @param charset the encoding scheme of the file
+     * @return the {@link Reader} for the entry contents
+     * @throws ResourceLoadingException if the archive has no such entry or it cannot be read
+     */
+    @Override
+    public Reader loadResource(String fileName, Charset charset) {
+      var entry = entry(fileName);
+      try {
+        return new DecodingReader(Channels.newChannel(zip.getInputStream(entry)), entry.getSize(), charset);
+      } catch (IOException | IllegalStateException e) {
+        throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromArchive(path, fileName, e));
+      }
+    }
+
+    /**
+     * Opens an entry given by a {@code jar:} URL pointing into this archive
+     *
+     * @param fileName the URL of the entry, e.g. {@code jar:file:/bundles.jar!/messages_pt.yaml}
+     * @param charset the encoding scheme of the file
+     * @return the {@link Reader} for the entry contents
+     * @throws ResourceLoadingException if the URL does not point into this archive or the entry cannot be read
+     */
+    @Override
+    public Reader loadResource(URL fileName, Charset charset) {
+      return loadResource(entryName(fileName), charset);
+    }
+
+    /**
+     * Reads an entry of the archive into a heap buffer
+     *
+     * @param fileName the name of the entry, a leading slash is ignored
+     * @return a read-only buffer over the entry contents
+     * @throws ResourceLoadingException if the archive has no such entry or it cannot be read
+     */
+    @Override
+    public ByteBuffer loadBuffer(String fileName) {
+      var entry = entry(fileName);
+      if (entry.getSize() > Integer.MAX_VALUE) {
+        throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromArchive(path, fileName,
+            "%s is too large to be buffered (%d bytes).".formatted(fileName, entry.getSize())));
+      }
+      try (var in = zip.getInputStream(entry)) {
+        var bytes = entry.getSize() >= 0 ? in.readNBytes((int) entry.getSize()) : in.readAllBytes();
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+      } catch (IOException | IllegalStateException e) {
+        throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromArchive(path, fileName, e));
+      }
+    }
+
+    /**
+     * Reads an entry given by a {@code jar:} URL pointing into this archive
+     *
+     * @param fileName the URL of the entry
+     * @return a read-only buffer over the entry contents
+     * @throws ResourceLoadingException if the URL does not point into this archive or the entry cannot be read
+     */
+    @Override
+    public ByteBuffer loadBuffer(URL fileName) {
+      return loadBuffer(entryName(fileName));
+    }
+
+    private ZipEntry entry(String fileName) {
+      var entry = entries.get(entryName(fileName));
+      if (entry == null) {
+        throw ResourceLoadingFailureEvent.record(new ResourceNotFoundException(fileName,
+            ResourceLoadingException.source(path)));
+      }
+      return entry;
+    }
+
+    private static String entryName(String fileName) {
+      return fileName.startsWith("/") ? fileName.substring(1) : fileName;
+    }
+
+    private String entryName(URL url) {
+      var spec = url.getPath();
+      var separator = spec.indexOf("!/");
+      if ("jar".equals(url.getProtocol()) && separator >= 0) {
+        try {
+          var archive = Path.of(new URI(spec.substring(0, separator))).toAbsolutePath().normalize();
+          if (archive.equals(path)) {
+            // only the %-escapes of URI paths are decoded, a '+' is kept instead of becoming a space as in forms
+            return URLDecoder.decode(spec.substring(separator + 2).replace("+", "%2B"), StandardCharsets.UTF_8);
+          }
+        } catch (URISyntaxException | IllegalArgumentException e) {
+          throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromArchive(path, url.toString(), e));
+        }
+      }
+      throw ResourceLoadingFailureEvent.record(ResourceLoadingException.fromArchive(path, url.toString(),
+          "The URL does not point into the archive."));
+    }
+
+    /**
+     * Closes the archive, the readers already returned by this loader can no longer be read
+     *
+     * @throws IOException if the archive fails to close
+     */
+    @Override
+    public void close() throws IOException {
+      zip.close();
     }
   }
 }
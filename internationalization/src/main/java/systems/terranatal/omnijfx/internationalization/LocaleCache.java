@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * A small, bounded and lock-free cache of values computed per {@link Locale}. It is direct-mapped:
+ * each locale hashes to a single slot and a colliding locale simply replaces the previous occupant.
+ * Values are therefore expected to be cheap enough to rebuild and safe to compute more than once
+ * concurrently, the cache only spares the cost of rebuilding them on every call.
+ *
+ * @param <V> the type of the cached values
+ */
+final class LocaleCache<V> {
+  private record Entry<V>(Locale locale, V value) {}
+
+  private final AtomicReferenceArray<Entry<V>> slots;
+  private final int mask;
+  private final Function<Locale, V> factory;
+
+  /**
+   * Initializes the cache
+   *
+   * @param capacity the number of slots, rounded up to the next power of two
+   * @param factory computes the value of a locale on a cache miss
+   */
+  LocaleCache(int capacity, Function<Locale, V> factory) {
+    var size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+    this.factory = factory;
+  }
+
+  /**
+   * Retrieves the cached value for the given locale, computing and storing it if absent
+   *
+   * @param locale the locale
+   * @return the value associated with the locale
+   */
+  V get(Locale locale) {
+    var hash = locale.hashCode();
+    var index = (hash ^ (hash >>> 16)) & mask;
+    var entry = slots.get(index);
+    if (entry != null && (entry.locale == locale || entry.locale.equals(locale))) {
+      return entry.value;
+    }
+    var value = factory.apply(locale);
+    slots.set(index, new Entry<>(locale, value));
+    return value;
+  }
+}
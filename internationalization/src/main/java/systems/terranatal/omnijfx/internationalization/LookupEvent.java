@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Flight Recorder event for a sample of the successful {@link ResourceBundle#stringFor(String)} calls.
+ * Only one call in {@link LookupEvent#SAMPLE_RATE}, 1024 by default, is even considered for recording, so the
+ * other calls pay for a single random number whether a recording is running or not. The rate can be changed
+ * with the {@code omnijfx.jfr.lookupSampleRate} system property and is rounded up to a power of two.
+ */
+@Name("omnijfx.Lookup")
+@Label("Bundle Lookup")
+@Category({"OmniJFx", "Internationalization"})
+@Description("A sampled lookup of a key that was found")
+@StackTrace(false)
+final class LookupEvent extends Event {
+  /**
+   * One lookup in this many is sampled
+   */
+  static final int SAMPLE_RATE = sampleRate(Integer.getInteger("omnijfx.jfr.lookupSampleRate", 1024));
+
+  private static final int MASK = SAMPLE_RATE - 1;
+
+  @Label("Key")
+  String key;
+
+  @Label("Bundle Type")
+  Class<?> bundleType;
+
+  @Label("Locale")
+  String locale;
+
+  @Label("Sample Rate")
+  @Description("The number of lookups this event stands for")
+  int sampleRate;
+
+  /**
+   * Rounds the requested rate up to a power of two, between 1, i.e. every lookup, and 2<sup>30</sup>
+   *
+   * @param requested the requested rate
+   * @return the rate used for sampling
+   */
+  static int sampleRate(int requested) {
+    var rate = Math.min(Math.max(1, requested), 1 << 30);
+    return 1 << (32 - Integer.numberOfLeadingZeros(rate - 1));
+  }
+
+  /**
+   * Decides whether the current lookup is sampled
+   *
+   * @return a started event if the lookup is sampled and the event is recorded, null otherwise
+   */
+  static LookupEvent sample() {
+    if ((ThreadLocalRandom.current().nextInt() & MASK) != 0) {
+      return null;
+    }
+    var event = new LookupEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Commits this event if the lookup took longer than the recording's threshold
+   *
+   * @param bundle the bundle that was searched
+   * @param key the key that was found
+   */
+  void record(ResourceBundle bundle, String key) {
+    end();
+    if (shouldCommit()) {
+      this.key = key;
+      bundleType = bundle.getClass();
+      locale = bundle.getLocale().toLanguageTag();
+      sampleRate = SAMPLE_RATE;
+      commit();
+    }
+  }
+}
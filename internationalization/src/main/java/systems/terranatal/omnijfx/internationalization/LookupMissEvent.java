@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for every {@link ResourceBundle#stringFor(String)} call that throws because the key is
+ * missing. The stack trace is recorded so that the code asking for the key can be found.
+ */
+@Name("omnijfx.LookupMiss")
+@Label("Bundle Lookup Miss")
+@Category({"OmniJFx", "Internationalization"})
+@Description("A lookup of a key that is not in the bundle")
+final class LookupMissEvent extends Event {
+  @Label("Key")
+  String key;
+
+  @Label("Bundle Type")
+  Class<?> bundleType;
+
+  @Label("Locale")
+  String locale;
+
+  /**
+   * Commits an event if it is recorded
+   *
+   * @param bundle the bundle that was searched
+   * @param key the missing key
+   */
+  static void record(ResourceBundle bundle, String key) {
+    var event = new LookupMissEvent();
+    if (event.shouldCommit()) {
+      event.key = key;
+      event.bundleType = bundle.getClass();
+      event.locale = bundle.getLocale().toLanguageTag();
+      event.commit();
+    }
+  }
+}
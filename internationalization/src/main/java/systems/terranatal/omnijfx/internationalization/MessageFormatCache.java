@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Per-bundle cache of compiled {@link MessageFormat}s. {@link MessageFormat} is not thread-safe, so each
+ * key gets a small {@link StripedPool} of clones of the format compiled on its first use, from which each
+ * call borrows one. Pooled formats come with a reusable output buffer and argument arrays for one to three
+ * arguments, thus the fixed-arity methods do not allocate anything but the resulting string.
+ */
+final class MessageFormatCache {
+  private static final int POOL_CAPACITY = 4;
+  /**
+   * Output buffers growing beyond this size are not kept for the next call
+   */
+  private static final int MAX_RETAINED_BUFFER = 1024;
+
+  private final Locale locale;
+  private final Function<String, String> patterns;
+  private final Map<String, StripedPool<Formatter>> pools = new ConcurrentHashMap<>();
+
+  /**
+   * Initializes an empty cache
+   *
+   * @param locale the locale of the formats
+   * @param patterns finds the pattern of a key, throwing {@link java.util.NoSuchElementException} if it is missing
+   */
+  MessageFormatCache(Locale locale, Function<String, String> patterns) {
+    this.locale = locale;
+    this.patterns = patterns;
+  }
+
+  String format(String key, Object[] args) {
+    var pool = pool(key);
+    var formatter = pool.borrow();
+    try {
+      return formatter.format(args);
+    } finally {
+      pool.release(formatter);
+    }
+  }
+
+  String format(String key, Object arg0) {
+    var pool = pool(key);
+    var formatter = pool.borrow();
+    var args = formatter.oneArgument;
+    try {
+      args[0] = arg0;
+      return formatter.format(args);
+    } finally {
+      args[0] = null;
+      pool.release(formatter);
+    }
+  }
+
+  String format(String key, Object arg0, Object arg1) {
+    var pool = pool(key);
+    var formatter = pool.borrow();
+    var args = formatter.twoArguments;
+    try {
+      args[0] = arg0;
+      args[1] = arg1;
+      return formatter.format(args);
+    } finally {
+      args[0] = null;
+      args[1] = null;
+      pool.release(formatter);
+    }
+  }
+
+  String format(String key, Object arg0, Object arg1, Object arg2) {
+    var pool = pool(key);
+    var formatter = pool.borrow();
+    var args = formatter.threeArguments;
+    try {
+      args[0] = arg0;
+      args[1] = arg1;
+      args[2] = arg2;
+      return formatter.format(args);
+    } finally {
+      args[0] = null;
+      args[1] = null;
+      args[2] = null;
+      pool.release(formatter);
+    }
+  }
+
+  /**
+   * Retrieves the pool of the key, compiling its pattern on the first call
+   */
+  private StripedPool<Formatter> pool(String key) {
+    var pool = key != null ? pools.get(key) : null;
+    if (pool == null) {
+      var prototype = new MessageFormat(patterns.apply(key), locale);
+      pool = pools.computeIfAbsent(key,
+          k -> new StripedPool<>(POOL_CAPACITY, () -> new Formatter((MessageFormat) prototype.clone())));
+    }
+    return pool;
+  }
+
+  private static final class Formatter {
+    private final MessageFormat format;
+    private final Object[] oneArgument = new Object[1];
+    private final Object[] twoArguments = new Object[2];
+    private final Object[] threeArguments = new Object[3];
+    private StringBuffer buffer = new StringBuffer();
+
+    Formatter(MessageFormat format) {
+      this.format = format;
+    }
+
+    String format(Object[] args) {
+      try {
+        return format.format(args, buffer, null).toString();
+      } finally {
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+          buffer = new StringBuffer();
+        } else {
+          buffer.setLength(0);
+        }
+      }
+    }
+  }
+}
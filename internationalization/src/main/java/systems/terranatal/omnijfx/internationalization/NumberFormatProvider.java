@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Provides {@link NumberFormat}s that can be used from many threads at once. {@link NumberFormat} is not
+ * thread-safe, so instead of sharing one instance or building a new one per call, this class keeps a small
+ * striped pool of clones of a prototype, which works for platform and virtual threads alike.
+ * <p>A format can be used within a scope, through {@link NumberFormatProvider#apply(Function)},
+ * or borrowed and returned explicitly with a try-with-resources block:</p>
+ * <pre>
+ *   try (var lease = NumberFormatProvider.forLocale(Locale.GERMANY).borrow()) {
+ *     var number = NumericParsingUtils.parseUnchecked(lease.format(), "1.234,5");
+ *   }
+ * </pre>
+ * A borrowed format must not be reconfigured, nor used after it is returned.
+ */
+public final class NumberFormatProvider {
+  private static final LocaleCache<NumberFormatProvider> DEFAULT_PROVIDERS =
+      new LocaleCache<>(64, locale -> new NumberFormatProvider(NumberFormat.getInstance(locale)));
+
+  private final NumberFormat prototype;
+  private final StripedPool<NumberFormat> pool;
+
+  /**
+   * Initializes a provider whose formats are copies of the given prototype, this allows pooling any kind of
+   * {@link NumberFormat}, e.g. the ones returned by {@link NumberFormat#getPercentInstance(Locale)}.
+   *
+   * @param prototype the format to be cloned, it is copied and thus not modified by this class
+   */
+  public NumberFormatProvider(NumberFormat prototype) {
+    this.prototype = (NumberFormat) Objects.requireNonNull(prototype).clone();
+    this.pool = new StripedPool<>(() -> (NumberFormat) this.prototype.clone());
+  }
+
+  /**
+   * Retrieves the shared provider of the general-purpose number format of the given {@link Locale},
+   * i.e. the one given by {@link NumberFormat#getInstance(Locale)}
+   *
+   * @param locale the locale of the formats
+   * @return the provider
+   */
+  public static NumberFormatProvider forLocale(Locale locale) {
+    return DEFAULT_PROVIDERS.get(locale);
+  }
+
+  /**
+   * Borrows a format for the exclusive use of the current thread until the returned {@link Lease} is closed
+   *
+   * @return the lease holding the format
+   */
+  public Lease borrow() {
+    return new Lease(pool.borrow());
+  }
+
+  /**
+   * Runs the given action with a format borrowed for its duration
+   *
+   * @param action the code using the format, it must not keep references to it
+   * @return the action's result
+   * @param <R> the type of the result
+   */
+  public <R> R apply(Function<? super NumberFormat, ? extends R> action) {
+    var format = pool.borrow();
+    try {
+      return action.apply(format);
+    } finally {
+      pool.release(format);
+    }
+  }
+
+  /**
+   * Thread-safe version of {@link NumericParsingUtils#parseUnchecked(NumberFormat, String)}
+   *
+   * @param text the string to be parsed to {@link Number}
+   * @return the parsed number or throws an {@link IllegalArgumentException} in case it is unsuccessful
+   */
+  public Number parse(String text) {
+    var format = pool.borrow();
+    try {
+      return NumericParsingUtils.parseUnchecked(format, text);
+    } finally {
+      pool.release(format);
+    }
+  }
+
+  /**
+   * Thread-safe version of {@link NumberFormat#format(double)}
+   *
+   * @param number the number to be formatted
+   * @return the formatted string
+   */
+  public String format(double number) {
+    var format = pool.borrow();
+    try {
+      return format.format(number);
+    } finally {
+      pool.release(format);
+    }
+  }
+
+  /**
+   * Thread-safe version of {@link NumberFormat#format(long)}
+   *
+   * @param number the number to be formatted
+   * @return the formatted string
+   */
+  public String format(long number) {
+    var format = pool.borrow();
+    try {
+      return format.format(number);
+    } finally {
+      pool.release(format);
+    }
+  }
+
+  /**
+   * A {@link NumberFormat} borrowed from a {@link NumberFormatProvider}, closing it returns the format
+   */
+  public final class Lease implements AutoCloseable {
+    private NumberFormat format;
+
+    private Lease(NumberFormat format) {
+      this.format = format;
+    }
+
+    /**
+     * Retrieves the borrowed format
+     *
+     * @return the format for the exclusive use of the lease holder
+     * @throws IllegalStateException if the lease was already closed
+     */
+    public NumberFormat format() {
+      if (format == null) {
+        throw new IllegalStateException("The format was already returned to its provider");
+      }
+      return format;
+    }
+
+    /**
+     * Returns the format to its provider, calling this method more than once has no effect
+     */
+    @Override
+    public void close() {
+      if (format != null) {
+        pool.release(format);
+        format = null;
+      }
+    }
+  }
+}
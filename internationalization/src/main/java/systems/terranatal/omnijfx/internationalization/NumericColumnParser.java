@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bulk counterpart of {@link NumericParsingUtils} for parsing whole columns of localized numbers,
+ * e.g. imported from spreadsheets, into primitive arrays. The column is split into chunks that are
+ * parsed in parallel by a {@link ForkJoinPool} with {@link NumericScanner}, so no {@link Number}s nor
+ * exceptions are created along the way.
+ * <p>Unparseable or {@code null} cells do not interrupt the parsing, their positions are returned as a
+ * {@link BitSet} and their slots in the target array are set to {@link Double#NaN} or {@code 0}.</p>
+ */
+public final class NumericColumnParser {
+  /**
+   * Number of cells below which a chunk is parsed sequentially, it is a multiple of 64 so that
+   * each chunk writes to its own words of the failure bitset
+   */
+  private static final int CHUNK_SIZE = 64 * 256;
+
+  private NumericColumnParser() {
+  }
+
+  /**
+   * Parses the column to {@code double}s using the common {@link ForkJoinPool}
+   *
+   * @param column the localized numbers
+   * @param locale the {@link Locale} whose symbols are used
+   * @param target the array receiving the value of each cell at the same index
+   * @return the positions of the cells that could not be parsed
+   */
+  public static BitSet parseDoubles(String[] column, Locale locale, double[] target) {
+    return parseDoubles(Arrays.asList(column), locale, target, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Parses the column to {@code double}s using the common {@link ForkJoinPool}
+   *
+   * @param column the localized numbers
+   * @param locale the {@link Locale} whose symbols are used
+   * @param target the array receiving the value of each cell at the same index
+   * @return the positions of the cells that could not be parsed
+   */
+  public static BitSet parseDoubles(List<String> column, Locale locale, double[] target) {
+    return parseDoubles(column, locale, target, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Parses the column to {@code double}s, unparseable cells are set to {@link Double#NaN}
+   *
+   * @param column the localized numbers
+   * @param locale the {@link Locale} whose symbols are used
+   * @param target the array receiving the value of each cell at the same index
+   * @param pool the pool running the parsing tasks
+   * @return the positions of the cells that could not be parsed
+   * @throws IllegalArgumentException if {@code target} is shorter than {@code column}
+   */
+  public static BitSet parseDoubles(List<String> column, Locale locale, double[] target, ForkJoinPool pool) {
+    checkLength(column.size(), target.length);
+    return run(new ParseTask(randomAccess(column), NumericScanner.of(locale), target, null), pool);
+  }
+
+  /**
+   * Parses the column to {@code long}s using the common {@link ForkJoinPool}
+   *
+   * @param column the localized numbers
+   * @param locale the {@link Locale} whose symbols are used
+   * @param target the array receiving the value of each cell at the same index
+   * @return the positions of the cells that could not be parsed
+   */
+  public static BitSet parseLongs(String[] column, Locale locale, long[] target) {
+    return parseLongs(Arrays.asList(column), locale, target, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Parses the column to {@code long}s using the common {@link ForkJoinPool}
+   *
+   * @param column the localized numbers
+   * @param locale the {@link Locale} whose symbols are used
+   * @param target the array receiving the value of each cell at the same index
+   * @return the positions of the cells that could not be parsed
+   */
+  public static BitSet parseLongs(List<String> column, Locale locale, long[] target) {
+    return parseLongs(column, locale, target, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Parses the column to {@code long}s, with the rules of {@link NumericScanner#parseLong(CharSequence, long)}.
+   * Unparseable cells are set to {@code 0}.
+   *
+   * @param column the localized numbers
+   * @param locale the {@link Locale} whose symbols are used
+   * @param target the array receiving the value of each cell at the same index
+   * @param pool the pool running the parsing tasks
+   * @return the positions of the cells that could not be parsed
+   * @throws IllegalArgumentException if {@code target} is shorter than {@code column}
+   */
+  public static BitSet parseLongs(List<String> column, Locale locale, long[] target, ForkJoinPool pool) {
+    checkLength(column.size(), target.length);
+    return run(new ParseTask(randomAccess(column), NumericScanner.of(locale), null, target), pool);
+  }
+
+  private static void checkLength(int columnSize, int targetLength) {
+    if (targetLength < columnSize) {
+      throw new IllegalArgumentException("The target array has %d slots but the column has %d cells."
+          .formatted(targetLength, columnSize));
+    }
+  }
+
+  private static List<String> randomAccess(List<String> column) {
+    return column instanceof RandomAccess ? column : Arrays.asList(column.toArray(String[]::new));
+  }
+
+  private static BitSet run(ParseTask task, ForkJoinPool pool) {
+    if (task.to <= CHUNK_SIZE) {
+      task.compute();
+    } else {
+      pool.invoke(task);
+    }
+    return BitSet.valueOf(task.failures);
+  }
+
+  private static final class ParseTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<String> column;
+    private final transient NumericScanner scanner;
+    private final double[] doubles;
+    private final long[] longs;
+    private final long[] failures;
+    private final int from;
+    private final int to;
+
+    private ParseTask(List<String> column, NumericScanner scanner, double[] doubles, long[] longs) {
+      this(column, scanner, doubles, longs, new long[(column.size() + 63) >>> 6], 0, column.size());
+    }
+
+    private ParseTask(List<String> column, NumericScanner scanner, double[] doubles, long[] longs,
+                      long[] failures, int from, int to) {
+      this.column = column;
+      this.scanner = scanner;
+      this.doubles = doubles;
+      this.longs = longs;
+      this.failures = failures;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > CHUNK_SIZE) {
+        // from is always a multiple of 64, so is the split point
+        var middle = from + (((to - from) >>> 1) & ~63);
+        invokeAll(new ParseTask(column, scanner, doubles, longs, failures, from, middle),
+            new ParseTask(column, scanner, doubles, longs, failures, middle, to));
+      } else if (doubles != null) {
+        parseDoubles();
+      } else {
+        parseLongs();
+      }
+    }
+
+    private void parseDoubles() {
+      for (int i = from; i < to; i++) {
+        var text = column.get(i);
+        var value = text != null ? scanner.parseDouble(text) : Double.NaN;
+        doubles[i] = value;
+        if (Double.isNaN(value)) {
+          failures[i >>> 6] |= 1L << i;
+        }
+      }
+    }
+
+    private void parseLongs() {
+      for (int i = from; i < to; i++) {
+        var text = column.get(i);
+        if (text == null || !scanner.tryParseLong(text, longs, i)) {
+          longs[i] = 0L;
+          failures[i >>> 6] |= 1L << i;
+        }
+      }
+    }
+  }
+}
@@ -30,13 +30,11 @@
 
 package systems.terranatal.omnijfx.internationalization;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
+import java.io.IOException;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Utility class to help parsing of localized strings into numbers. The
@@ -46,7 +44,11 @@ import java.util.stream.Collectors;
  * {@code 12.345.678} in other locales such as France and Germany.
  * <p> The {@link NumericParsingUtils#parseUnchecked(NumberFormat, String)}, allows a more convenient
  * parsing inside lambda expressions for not having to handle checked exceptions that might never be
- * thrown when the user does proper validation of the input.</p>
+ * thrown when the user does proper validation of the input. When a boxed {@link Number} is not needed,
+ * {@link NumericParsingUtils#parseDouble(CharSequence, Locale)} and {@link NumericParsingUtils#parseLong(CharSequence, Locale, long)}
+ * parse straight to primitives and report failures through sentinel values instead of exceptions.</p>
+ * <p>The locale-dependent checks are delegated to the cached {@link NumericScanner} of each locale, so
+ * calling them repeatedly, e.g. on every keystroke of a text field, does not rebuild any symbols or patterns.</p>
  */
 public interface NumericParsingUtils {
 
@@ -59,17 +61,78 @@ public interface NumericParsingUtils {
    * Removes all non-numeric characters, except the {@link java.util.Locale}'s decimal separator.
    * It will not care if the grouping has the correct decimal places according to the locale
    * e.g. 3 places for Western countries and 4 in East Asian countries.
+   * The characters removed are the ones described by {@link NumericParsingUtils#NUMERIC_GROUPING_TOKENS}.
    *
    * @param text the text to be processed
    * @param decimalSeparator the decimal separator which will be kept
    *
-   * @return the processed string with all special characters, except the decimal separator, removed
+   * @return the processed string with all special characters, except the decimal separator, removed.
+   * If there is nothing to be removed, {@code text} itself is returned.
    */
   static String stripGroupingSymbols(String text, String decimalSeparator) {
-    var others = NUMERIC_GROUPING_TOKENS.stream().filter(t -> !t.equals("\\" + decimalSeparator));
-    var regEx = others.collect(Collectors.joining("|"));
+    var kept = decimalSeparator.length() == 1 ? decimalSeparator.charAt(0) : Character.MAX_VALUE;
+    return stripGroupingSymbols(text, kept);
+  }
+
+  /**
+   * Does the same as {@link NumericParsingUtils#stripGroupingSymbols(String, String)} in a single pass
+   * over {@code text}, appending the result to the given {@link StringBuilder} so that it can be reused
+   * between calls.
+   *
+   * @param text the text to be processed
+   * @param decimalSeparator the decimal separator which will be kept
+   * @param target where the processed text is appended to
+   * @return the {@code target} parameter
+   */
+  static StringBuilder stripGroupingSymbols(CharSequence text, char decimalSeparator, StringBuilder target) {
+    var start = 0;
+    for (int i = 0, length = text.length(); i < length; i++) {
+      if (isGroupingSymbol(text.charAt(i), decimalSeparator)) {
+        target.append(text, start, i);
+        start = i + 1;
+      }
+    }
+    return target.append(text, start, text.length());
+  }
+
+  /**
+   * Does the same as {@link NumericParsingUtils#stripGroupingSymbols(CharSequence, char, StringBuilder)}
+   * but writes to any {@link Appendable}, e.g. a {@link java.io.Writer}.
+   *
+   * @param text the text to be processed
+   * @param decimalSeparator the decimal separator which will be kept
+   * @param target where the processed text is appended to
+   * @return the {@code target} parameter
+   * @param <A> the type of the {@link Appendable}
+   * @throws IOException if {@code target} fails to append
+   */
+  static <A extends Appendable> A stripGroupingSymbols(CharSequence text, char decimalSeparator, A target)
+      throws IOException {
+    var start = 0;
+    for (int i = 0, length = text.length(); i < length; i++) {
+      if (isGroupingSymbol(text.charAt(i), decimalSeparator)) {
+        target.append(text, start, i);
+        start = i + 1;
+      }
+    }
+    target.append(text, start, text.length());
+    return target;
+  }
+
+  private static String stripGroupingSymbols(String text, char decimalSeparator) {
+    for (int i = 0, length = text.length(); i < length; i++) {
+      if (isGroupingSymbol(text.charAt(i), decimalSeparator)) {
+        return stripGroupingSymbols(text, decimalSeparator, new StringBuilder(length - 1)).toString();
+      }
+    }
+    return text;
+  }
 
-    return text.replaceAll(regEx, "");
+  private static boolean isGroupingSymbol(char c, char decimalSeparator) {
+    return c != decimalSeparator && switch (c) {
+      case '.', '\'', ',', '_', ' ', '\t', '\n', '\u000B', '\f', '\r' -> true;
+      default -> false;
+    };
   }
 
   /**
@@ -80,21 +143,7 @@ public interface NumericParsingUtils {
    * @return true if the string can be parsed to a number, false otherwise
    */
   static boolean isParseable(String text, Locale locale) {
-    var symbols = DecimalFormatSymbols.getInstance(locale);
-    var separator = Character.toString(symbols.getDecimalSeparator());
-    var grouping = Character.toString(DecimalFormatSymbols.getInstance(locale).getGroupingSeparator());
-    final var scientific = "%s([Ee]%s)?";
-
-    if (!text.contains(grouping)) {
-      var localizedRational = "[\\+\\-]?\\d+(\\%s\\d+)?".formatted(separator);
-      var finalRegex = scientific.formatted(localizedRational, localizedRational);
-      return text.matches(finalRegex);
-    }
-    var gsize = ((DecimalFormat) DecimalFormat.getInstance(locale)).getGroupingSize();
-    var rationalWithGrouping = "[\\+\\-]?\\d{1,%d}(\\%s\\d{%d})*(\\%s\\d+)?"
-            .formatted(gsize, grouping, gsize, separator);
-    var finalRegex = scientific.formatted(rationalWithGrouping, rationalWithGrouping);
-    return text.matches(finalRegex);
+    return NumericScanner.of(locale).isParseable(text);
   }
 
   /**
@@ -114,7 +163,7 @@ public interface NumericParsingUtils {
    * @return the processed string with all special characters, except the decimal separator, removed
    */
   static String stripGroupingSymbols(String text) {
-    return stripGroupingSymbols(text, Character.toString(DecimalFormatSymbols.getInstance().getDecimalSeparator()));
+    return stripGroupingSymbols(text, NumericScanner.ofDefault().getDecimalSeparator());
   }
 
   /**
@@ -124,10 +173,7 @@ public interface NumericParsingUtils {
    * @return true if the string contains at least one grouping symbol, false otherwise
    */
   static boolean hasGrouping(String text, Locale locale) {
-    var symbols = DecimalFormatSymbols.getInstance(locale);
-    var grouping = Character.toString(symbols.getGroupingSeparator());
-
-    return text.contains(grouping);
+    return NumericScanner.of(locale).hasGrouping(text);
   }
 
   /**
@@ -139,6 +185,80 @@ public interface NumericParsingUtils {
     return hasGrouping(text, Locale.getDefault());
   }
 
+  /**
+   * Parses a localized number to a primitive {@code double} without going through {@link NumberFormat}.
+   * It accepts the same grouping and scientific notations as {@link NumericParsingUtils#isParseable(String, Locale)}.
+   *
+   * @param text the text to be parsed
+   * @param locale the {@link Locale} whose symbols are used
+   * @return the parsed value or {@link Double#NaN} if the text is not parseable
+   * @see NumericScanner#parseDouble(CharSequence)
+   */
+  static double parseDouble(CharSequence text, Locale locale) {
+    return NumericScanner.of(locale).parseDouble(text);
+  }
+
+  /**
+   * Parses a number localized in the platform's default {@link Locale} to a primitive {@code double}
+   *
+   * @param text the text to be parsed
+   * @return the parsed value or {@link Double#NaN} if the text is not parseable
+   */
+  static double parseDouble(CharSequence text) {
+    return parseDouble(text, Locale.getDefault());
+  }
+
+  /**
+   * Parses a localized number to a primitive {@code double} and stores it at {@code target[index]}
+   *
+   * @param text the text to be parsed
+   * @param locale the {@link Locale} whose symbols are used
+   * @param target the array where the parsed value is stored
+   * @param index the position in {@code target}
+   * @return true if the text was parsed, false otherwise, in which case {@code target} is not modified
+   */
+  static boolean tryParseDouble(CharSequence text, Locale locale, double[] target, int index) {
+    return NumericScanner.of(locale).tryParseDouble(text, target, index);
+  }
+
+  /**
+   * Parses a localized integer to a primitive {@code long} without going through {@link NumberFormat}.
+   * Decimal places and exponents are accepted only if the value they represent is an integer.
+   *
+   * @param text the text to be parsed
+   * @param locale the {@link Locale} whose symbols are used
+   * @param fallback the value returned if the text cannot be parsed
+   * @return the parsed value or {@code fallback}
+   * @see NumericScanner#parseLong(CharSequence, long)
+   */
+  static long parseLong(CharSequence text, Locale locale, long fallback) {
+    return NumericScanner.of(locale).parseLong(text, fallback);
+  }
+
+  /**
+   * Parses an integer localized in the platform's default {@link Locale} to a primitive {@code long}
+   *
+   * @param text the text to be parsed
+   * @param fallback the value returned if the text cannot be parsed
+   * @return the parsed value or {@code fallback}
+   */
+  static long parseLong(CharSequence text, long fallback) {
+    return parseLong(text, Locale.getDefault(), fallback);
+  }
+
+  /**
+   * Parses a localized integer to a primitive {@code long} and stores it at {@code target[index]}
+   *
+   * @param text the text to be parsed
+   * @param locale the {@link Locale} whose symbols are used
+   * @param target the array where the parsed value is stored
+   * @param index the position in {@code target}
+   * @return true if the text was parsed, false otherwise, in which case {@code target} is not modified
+   */
+  static boolean tryParseLong(CharSequence text, Locale locale, long[] target, int index) {
+    return NumericScanner.of(locale).tryParseLong(text, target, index);
+  }
+
   /**
    * Calls {@link NumberFormat#parse(String)} with the given text but wraps its {@link ParseException} into
    * an {@link IllegalArgumentException} in case it is thrown.
@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Hand-written scanner for localized numeric strings. It holds the decimal separator, the grouping
+ * separator and the grouping size of a single {@link Locale}, so that validating a string is a single
+ * pass over its characters instead of building and compiling a regular expression on every call.
+ * <p>Instances are immutable and thread-safe, they are obtained through {@link NumericScanner#of(Locale)}
+ * which keeps the most recently used locales in a bounded cache.</p>
+ * <p>Besides validation, the scanner converts localized text straight to primitive {@code double} and
+ * {@code long} values. Those methods never throw on malformed input: {@link NumericScanner#parseDouble(CharSequence)}
+ * returns {@link Double#NaN}, {@link NumericScanner#parseLong(CharSequence, long)} returns the given fallback
+ * and the {@code tryParse...} methods return {@code false} leaving their target array untouched.</p>
+ * <p>The accepted syntax is the same that {@link NumericParsingUtils#isParseable(String, Locale)} has always
+ * accepted: an optionally signed rational number in the locale's notation, optionally followed by
+ * {@code E} or {@code e} and another rational number as exponent. If the text contains the grouping
+ * separator, each group must be exactly as large as the locale's grouping size, except the first one which
+ * may be smaller, e.g. {@code 12,345,678.9} for {@link Locale#US}.</p>
+ */
+public final class NumericScanner {
+  private static final LocaleCache<NumericScanner> CACHE = new LocaleCache<>(64, NumericScanner::new);
+
+  private final Locale locale;
+  private final char decimalSeparator;
+  private final char groupingSeparator;
+  private final int groupingSize;
+
+  /**
+   * Mantissas up to this value can be multiplied by 10 without exceeding 2<sup>63</sup>
+   */
+  private static final long MANTISSA_LIMIT = 100_000_000_000_000_000L;
+  /**
+   * Exponents beyond this magnitude always overflow or underflow a {@code double}
+   */
+  private static final int EXPONENT_LIMIT = 100_000;
+  /**
+   * Returned by {@link NumericScanner#negatedLong(CharSequence)} when the text is not a {@code long}, which can never be
+   * a negated value
+   */
+  private static final long NOT_A_LONG = 1L;
+  /**
+   * Powers of ten that are exactly representable as a {@code double}
+   */
+  private static final double[] EXACT_POWERS_OF_TEN = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+      1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  private NumericScanner(Locale locale) {
+    var symbols = DecimalFormatSymbols.getInstance(locale);
+    this.locale = locale;
+    this.decimalSeparator = symbols.getDecimalSeparator();
+    this.groupingSeparator = symbols.getGroupingSeparator();
+    this.groupingSize = DecimalFormat.getInstance(locale) instanceof DecimalFormat df ? df.getGroupingSize() : 0;
+  }
+
+  /**
+   * Retrieves the scanner for the given {@link Locale}, building it only if it is not cached yet.
+   *
+   * @param locale the locale whose symbols will be used
+   * @return the scanner of the locale
+   */
+  public static NumericScanner of(Locale locale) {
+    return CACHE.get(locale);
+  }
+
+  /**
+   * Retrieves the scanner of the platform's default {@link Locale}
+   *
+   * @return the scanner of the default locale
+   */
+  public static NumericScanner ofDefault() {
+    return of(Locale.getDefault());
+  }
+
+  /**
+   * Retrieves the locale of this scanner
+   * @return the locale
+   */
+  public Locale getLocale() {
+    return locale;
+  }
+
+  /**
+   * Retrieves the decimal separator of this scanner's locale
+   * @return the decimal separator
+   */
+  public char getDecimalSeparator() {
+    return decimalSeparator;
+  }
+
+  /**
+   * Retrieves the grouping separator of this scanner's locale
+   * @return the grouping separator
+   */
+  public char getGroupingSeparator() {
+    return groupingSeparator;
+  }
+
+  /**
+   * Retrieves the number of digits in each group of this scanner's locale
+   * @return the grouping size
+   */
+  public int getGroupingSize() {
+    return groupingSize;
+  }
+
+  /**
+   * Checks if the given text contains at least one grouping separator of this scanner's locale
+   *
+   * @param text the text to be tested
+   * @return true if the grouping separator was found, false otherwise
+   */
+  public boolean hasGrouping(CharSequence text) {
+    for (int i = 0, length = text.length(); i < length; i++) {
+      if (text.charAt(i) == groupingSeparator) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if the given text can be parsed to a number in this scanner's locale
+   *
+   * @param text the text to be tested
+   * @return true if the text is a valid localized number, false otherwise
+   */
+  public boolean isParseable(CharSequence text) {
+    var grouped = hasGrouping(text);
+    if (grouped && groupingSize < 1) {
+      return false;
+    }
+    var length = text.length();
+    var end = scanRational(text, 0, length, grouped);
+    if (end < 0 || end == length) {
+      return end == length;
+    }
+    var exponent = text.charAt(end);
+    return (exponent == 'E' || exponent == 'e') && scanRational(text, end + 1, length, grouped) == length;
+  }
+
+  /**
+   * Parses the given text as a {@code double} in this scanner's locale. A fractional exponent,
+   * e.g. {@code 1.5E-3.14} in {@link Locale#US}, is applied as {@code 1.5 * Math.pow(10, -3.14)}.
+   *
+   * @param text the text to be parsed
+   * @return the parsed value or {@link Double#NaN} if the text is not parseable
+   */
+  public double parseDouble(CharSequence text) {
+    if (!isParseable(text)) {
+      return Double.NaN;
+    }
+    var length = text.length();
+    var e = exponentIndex(text, length);
+    if (e == length) {
+      return decimalValue(text, 0, length, 0);
+    }
+    if (indexOf(decimalSeparator, text, e + 1, length) < 0) {
+      return decimalValue(text, 0, e, integerValue(text, e + 1, length));
+    }
+    var mantissa = decimalValue(text, 0, e, 0);
+    return mantissa == 0 ? mantissa : mantissa * Math.pow(10, decimalValue(text, e + 1, length, 0));
+  }
+
+  /**
+   * Parses the given text as a {@code double} and stores it at {@code target[index]}
+   *
+   * @param text the text to be parsed
+   * @param target the array where the parsed value is stored
+   * @param index the position in {@code target}
+   * @return true if the text was parsed, false otherwise, in which case {@code target} is not modified
+   */
+  public boolean tryParseDouble(CharSequence text, double[] target, int index) {
+    var value = parseDouble(text);
+    if (Double.isNaN(value)) {
+      return false;
+    }
+    target[index] = value;
+    return true;
+  }
+
+  /**
+   * Parses the given text as a {@code long} in this scanner's locale. The text may have decimal places or an
+   * exponent as long as the value it represents is an integer within the range of {@code long}, e.g.
+   * {@code 1.5E3} or {@code 12.000} in {@link Locale#US}. Fractional exponents are never accepted.
+   *
+   * @param text the text to be parsed
+   * @param fallback the value returned if the text cannot be parsed
+   * @return the parsed value or {@code fallback}
+   */
+  public long parseLong(CharSequence text, long fallback) {
+    var negated = negatedLong(text);
+    if (negated == NOT_A_LONG) {
+      return fallback;
+    }
+    return text.charAt(0) == '-' ? negated : -negated;
+  }
+
+  /**
+   * Parses the given text as a {@code long}, with the same rules as {@link NumericScanner#parseLong(CharSequence, long)},
+   * and stores it at {@code target[index]}
+   *
+   * @param text the text to be parsed
+   * @param target the array where the parsed value is stored
+   * @param index the position in {@code target}
+   * @return true if the text was parsed, false otherwise, in which case {@code target} is not modified
+   */
+  public boolean tryParseLong(CharSequence text, long[] target, int index) {
+    var negated = negatedLong(text);
+    if (negated == NOT_A_LONG) {
+      return false;
+    }
+    target[index] = text.charAt(0) == '-' ? negated : -negated;
+    return true;
+  }
+
+  /**
+   * Parses the magnitude of a {@code long} in a single pass, negated so that {@link Long#MIN_VALUE} can be represented
+   *
+   * @return the negated magnitude, which is never positive, or {@link NumericScanner#NOT_A_LONG} if the text cannot
+   * be parsed or does not fit in a {@code long}
+   */
+  private long negatedLong(CharSequence text) {
+    if (!isParseable(text)) {
+      return NOT_A_LONG;
+    }
+    var length = text.length();
+    var e = exponentIndex(text, length);
+    var exponent = 0;
+    if (e < length) {
+      if (indexOf(decimalSeparator, text, e + 1, length) >= 0) {
+        return NOT_A_LONG;
+      }
+      exponent = integerValue(text, e + 1, length);
+    }
+    var i = 0;
+    var negative = text.charAt(0) == '-';
+    if (negative || text.charAt(0) == '+') {
+      i++;
+    }
+    // accumulates negatively so that Long.MIN_VALUE can be represented
+    var value = 0L;
+    var fraction = false;
+    var pendingZeros = 0;
+    for (; i < e; i++) {
+      var c = text.charAt(i);
+      if (c == decimalSeparator) {
+        fraction = true;
+      } else if (isDigit(c)) {
+        var digit = c - '0';
+        if (fraction && digit == 0) {
+          // trailing zeros of the decimal places do not change the value
+          pendingZeros++;
+          continue;
+        }
+        for (; pendingZeros > 0; pendingZeros--, exponent--) {
+          if (value < Long.MIN_VALUE / 10) {
+            return NOT_A_LONG;
+          }
+          value *= 10;
+        }
+        if (value < (Long.MIN_VALUE + digit) / 10) {
+          return NOT_A_LONG;
+        }
+        value = value * 10 - digit;
+        if (fraction) {
+          exponent--;
+        }
+      }
+    }
+    for (; exponent > 0 && value != 0; exponent--) {
+      if (value < Long.MIN_VALUE / 10) {
+        return NOT_A_LONG;
+      }
+      value *= 10;
+    }
+    for (; exponent < 0 && value != 0; exponent++) {
+      if (value % 10 != 0) {
+        return NOT_A_LONG;
+      }
+      value /= 10;
+    }
+    return !negative && value == Long.MIN_VALUE ? NOT_A_LONG : value;
+  }
+
+  /**
+   * Converts a validated rational number, without exponent, to a double multiplied by {@code 10^exponent}.
+   * When the digits and the exponent fit in the exact range of {@code double} the result is computed with a
+   * single correctly-rounded operation, otherwise it falls back to {@link Double#parseDouble(String)}.
+   */
+  private double decimalValue(CharSequence text, int from, int to, int exponent) {
+    var i = from;
+    var negative = text.charAt(i) == '-';
+    if (negative || text.charAt(i) == '+') {
+      i++;
+    }
+    var mantissa = 0L;
+    var scale = exponent;
+    var fraction = false;
+    var truncated = false;
+    for (; i < to; i++) {
+      var c = text.charAt(i);
+      if (c == decimalSeparator) {
+        fraction = true;
+      } else if (isDigit(c)) {
+        if (mantissa < MANTISSA_LIMIT) {
+          mantissa = mantissa * 10 + (c - '0');
+          scale -= fraction ? 1 : 0;
+        } else {
+          truncated |= c != '0';
+          scale += fraction ? 0 : 1;
+        }
+      }
+    }
+    double value;
+    if (!truncated && mantissa <= (1L << 53) && Math.abs(scale) < EXACT_POWERS_OF_TEN.length) {
+      value = scale < 0 ? mantissa / EXACT_POWERS_OF_TEN[-scale] : mantissa * EXACT_POWERS_OF_TEN[scale];
+    } else {
+      value = Double.parseDouble(normalize(text, from, to).append('E').append(exponent).toString());
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * Rewrites an unsigned rational number with {@code .} as decimal separator and no grouping
+   */
+  private StringBuilder normalize(CharSequence text, int from, int to) {
+    var sb = new StringBuilder(to - from + 8);
+    for (int i = from; i < to; i++) {
+      var c = text.charAt(i);
+      if (isDigit(c)) {
+        sb.append(c);
+      } else if (c == decimalSeparator) {
+        sb.append('.');
+      }
+    }
+    return sb;
+  }
+
+  /**
+   * Converts a validated integer, possibly grouped, saturating it at {@link NumericScanner#EXPONENT_LIMIT}
+   */
+  private static int integerValue(CharSequence text, int from, int to) {
+    var value = 0;
+    var negative = text.charAt(from) == '-';
+    for (int i = from; i < to; i++) {
+      var c = text.charAt(i);
+      if (isDigit(c)) {
+        value = Math.min(EXPONENT_LIMIT, value * 10 + (c - '0'));
+      }
+    }
+    return negative ? -value : value;
+  }
+
+  private static int exponentIndex(CharSequence text, int length) {
+    for (int i = 0; i < length; i++) {
+      var c = text.charAt(i);
+      if (c == 'E' || c == 'e') {
+        return i;
+      }
+    }
+    return length;
+  }
+
+  private static int indexOf(char c, CharSequence text, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (text.charAt(i) == c) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Scans an optionally signed rational number starting at {@code from}
+   *
+   * @return the index right after the number or -1 if there is no valid number at {@code from}
+   */
+  private int scanRational(CharSequence text, int from, int to, boolean grouped) {
+    var i = from;
+    if (i < to && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+      i++;
+    }
+    var digits = countDigits(text, i, to);
+    if (digits == 0 || (grouped && digits > groupingSize)) {
+      return -1;
+    }
+    i += digits;
+    while (grouped && i < to && text.charAt(i) == groupingSeparator) {
+      digits = countDigits(text, i + 1, to);
+      if (digits != groupingSize) {
+        return -1;
+      }
+      i += digits + 1;
+    }
+    if (i < to && text.charAt(i) == decimalSeparator) {
+      digits = countDigits(text, i + 1, to);
+      if (digits == 0) {
+        return -1;
+      }
+      i += digits + 1;
+    }
+    return i;
+  }
+
+  private static int countDigits(CharSequence text, int from, int to) {
+    var i = from;
+    while (i < to && isDigit(text.charAt(i))) {
+      i++;
+    }
+    return i - from;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Selects the {@link PluralCategory} of a number according to the cardinal plural rules of a language.
+ * The rules are written in the CLDR syntax, e.g. {@code v = 0 and i % 10 = 2..4 and i % 100 != 12..14},
+ * and compiled into a table of relations the first time a language is used, thus selecting a category only
+ * evaluates a few integer comparisons instead of parsing a {@link java.text.ChoiceFormat} pattern.
+ * Instances are immutable and thread-safe.
+ * <p>The rules of a set of common languages are built in, any other language only has the
+ * {@link PluralCategory#OTHER} category, like the CLDR root locale. Compact decimal exponents are not
+ * supported, so the operand {@code e} is always 0.</p>
+ */
+public final class PluralRules {
+  private static final String ONE_INTEGER = "one: i = 1 and v = 0";
+  private static final String ONE_EXACTLY = "one: n = 1";
+  private static final String MANY_MILLIONS = "many: e = 0 and i != 0 and i % 1000000 = 0 and v = 0 or e != 0..5";
+  private static final String EAST_SLAVIC = "one: v = 0 and i % 10 = 1 and i % 100 != 11;"
+      + " few: v = 0 and i % 10 = 2..4 and i % 100 != 12..14;"
+      + " many: v = 0 and i % 10 = 0 or v = 0 and i % 10 = 5..9 or v = 0 and i % 100 = 11..14";
+  private static final String WEST_SLAVIC = ONE_INTEGER + "; few: i = 2..4 and v = 0; many: v != 0";
+  private static final String SERBO_CROATIAN = "one: v = 0 and i % 10 = 1 and i % 100 != 11"
+      + " or f % 10 = 1 and f % 100 != 11;"
+      + " few: v = 0 and i % 10 = 2..4 and i % 100 != 12..14 or f % 10 = 2..4 and f % 100 != 12..14";
+
+  /**
+   * Rules by language, or by language and country when the country differs from the rest of the language
+   */
+  private static final Map<String, String> TABLE = Map.ofEntries(
+      Map.entry("ar", "zero: n = 0; one: n = 1; two: n = 2; few: n % 100 = 3..10; many: n % 100 = 11..99"),
+      Map.entry("bg", ONE_EXACTLY),
+      Map.entry("bs", SERBO_CROATIAN),
+      Map.entry("ca", ONE_INTEGER + "; " + MANY_MILLIONS),
+      Map.entry("cs", WEST_SLAVIC),
+      Map.entry("da", "one: n = 1 or t != 0 and i = 0,1"),
+      Map.entry("de", ONE_INTEGER),
+      Map.entry("el", ONE_EXACTLY),
+      Map.entry("en", ONE_INTEGER),
+      Map.entry("es", ONE_EXACTLY + "; " + MANY_MILLIONS),
+      Map.entry("et", ONE_INTEGER),
+      Map.entry("fi", ONE_INTEGER),
+      Map.entry("fr", "one: i = 0,1; " + MANY_MILLIONS),
+      Map.entry("he", "one: i = 1 and v = 0 or i = 0 and v != 0; two: i = 2 and v = 0"),
+      Map.entry("hr", SERBO_CROATIAN),
+      Map.entry("hu", ONE_EXACTLY),
+      Map.entry("it", ONE_INTEGER + "; " + MANY_MILLIONS),
+      Map.entry("lt", "one: n % 10 = 1 and n % 100 != 11..19; few: n % 10 = 2..9 and n % 100 != 11..19;"
+          + " many: f != 0"),
+      Map.entry("lv", "zero: n % 10 = 0 or n % 100 = 11..19 or v = 2 and f % 100 = 11..19;"
+          + " one: n % 10 = 1 and n % 100 != 11 or v = 2 and f % 10 = 1 and f % 100 != 11"
+          + " or v != 2 and f % 10 = 1"),
+      Map.entry("nb", ONE_EXACTLY),
+      Map.entry("nl", ONE_INTEGER),
+      Map.entry("no", ONE_EXACTLY),
+      Map.entry("pl", ONE_INTEGER + "; few: v = 0 and i % 10 = 2..4 and i % 100 != 12..14;"
+          + " many: v = 0 and i != 1 and i % 10 = 0..1 or v = 0 and i % 10 = 5..9 or v = 0 and i % 100 = 12..14"),
+      Map.entry("pt", "one: i = 0..1; " + MANY_MILLIONS),
+      Map.entry("pt_PT", ONE_INTEGER + "; " + MANY_MILLIONS),
+      Map.entry("ro", ONE_INTEGER + "; few: v != 0 or n = 0 or n != 1 and n % 100 = 1..19"),
+      Map.entry("ru", EAST_SLAVIC),
+      Map.entry("sk", WEST_SLAVIC),
+      Map.entry("sl", "one: v = 0 and i % 100 = 1; two: v = 0 and i % 100 = 2; few: v = 0 and i % 100 = 3..4"
+          + " or v != 0"),
+      Map.entry("sr", SERBO_CROATIAN),
+      Map.entry("sv", ONE_INTEGER),
+      Map.entry("tr", ONE_EXACTLY),
+      Map.entry("uk", EAST_SLAVIC));
+
+  /**
+   * Compiled rules by key of {@link #TABLE}, so that every locale of a language shares the same instance
+   */
+  private static final Map<String, PluralRules> COMPILED = new ConcurrentHashMap<>();
+  private static final LocaleCache<PluralRules> BY_LOCALE = new LocaleCache<>(32, PluralRules::resolve);
+  private static final BigInteger LIMIT = BigInteger.TEN.pow(18);
+
+  private final Rule[] rules;
+  private final Set<PluralCategory> categories;
+
+  private PluralRules(String definitions) {
+    var compiled = new ArrayList<Rule>();
+    var categories = EnumSet.of(PluralCategory.OTHER);
+    for (var definition : definitions.split(";")) {
+      if (definition.isBlank()) {
+        continue;
+      }
+      var colon = definition.indexOf(':');
+      if (colon < 0) {
+        throw new IllegalArgumentException("Missing category in plural rule " + definition);
+      }
+      var category = PluralCategory.valueOf(definition.substring(0, colon).trim().toUpperCase(Locale.ROOT));
+      compiled.add(new Rule(category, compile(definition.substring(colon + 1))));
+      categories.add(category);
+    }
+    this.rules = compiled.toArray(Rule[]::new);
+    this.categories = Collections.unmodifiableSet(categories);
+  }
+
+  /**
+   * Retrieves the rules of the locale's language, compiling them on the first use of that language
+   *
+   * @param locale the locale, null stands for {@link Locale#ROOT}
+   * @return the plural rules of the locale
+   */
+  public static PluralRules forLocale(Locale locale) {
+    return BY_LOCALE.get(locale != null ? locale : Locale.ROOT);
+  }
+
+  private static PluralRules resolve(Locale locale) {
+    var language = locale.getLanguage();
+    var regional = language + "_" + locale.getCountry();
+    var key = TABLE.containsKey(regional) ? regional : TABLE.containsKey(language) ? language : "";
+    return COMPILED.computeIfAbsent(key, k -> new PluralRules(TABLE.getOrDefault(k, "")));
+  }
+
+  /**
+   * Lists the categories used by the language, always including {@link PluralCategory#OTHER}
+   *
+   * @return a read-only set of the categories
+   */
+  public Set<PluralCategory> categories() {
+    return categories;
+  }
+
+  /**
+   * Selects the category of an integer count
+   *
+   * @param count the count, its sign is ignored
+   * @return the category of the count
+   */
+  public PluralCategory select(long count) {
+    if (count == Long.MIN_VALUE) {
+      return select(BigDecimal.valueOf(count));
+    }
+    var i = Math.abs(count);
+    return select(new Operands(i, i, 0, 0, 0, 0));
+  }
+
+  /**
+   * Selects the category of a decimal count, whose visible fraction digits are taken from its scale, e.g.
+   * {@code 1} and {@code 1.0} may fall into different categories
+   *
+   * @param count the count, its sign is ignored
+   * @return the category of the count
+   */
+  public PluralCategory select(BigDecimal count) {
+    var n = count.abs();
+    if (n.scale() < 0) {
+      n = n.setScale(0);
+    }
+    var stripped = n.stripTrailingZeros();
+    var v = n.scale();
+    var w = Math.max(stripped.scale(), 0);
+    var integer = n.toBigInteger();
+    var fraction = n.remainder(BigDecimal.ONE).unscaledValue();
+    var trimmed = stripped.remainder(BigDecimal.ONE).unscaledValue();
+    return select(new Operands(n.doubleValue(), truncate(integer), v, w, truncate(fraction), truncate(trimmed)));
+  }
+
+  /**
+   * Keeps the values with more than 18 digits above every number found in the rules while preserving their
+   * remainders of the divisions by powers of ten
+   */
+  private static long truncate(BigInteger value) {
+    return value.compareTo(LIMIT) < 0 ? value.longValue() : value.mod(LIMIT).longValue() + LIMIT.longValue();
+  }
+
+  private PluralCategory select(Operands operands) {
+    for (var rule : rules) {
+      if (rule.matches(operands)) {
+        return rule.category;
+      }
+    }
+    return PluralCategory.OTHER;
+  }
+
+  /**
+   * Compiles a condition, i.e. relations joined by {@code and}, which are in turn joined by {@code or}
+   */
+  private static Relation[][] compile(String condition) {
+    var alternatives = condition.trim().split("\\s+or\\s+");
+    var compiled = new Relation[alternatives.length][];
+    for (int a = 0; a < alternatives.length; a++) {
+      var relations = alternatives[a].split("\\s+and\\s+");
+      compiled[a] = new Relation[relations.length];
+      for (int r = 0; r < relations.length; r++) {
+        compiled[a][r] = Relation.compile(relations[r].trim());
+      }
+    }
+    return compiled;
+  }
+
+  /**
+   * The CLDR operands of a number: its absolute value {@code n}, integer digits {@code i}, number of visible
+   * fraction digits with and without trailing zeros {@code v} and {@code w}, and the visible fraction digits
+   * with and without trailing zeros {@code f} and {@code t}
+   */
+  private record Operands(double n, long i, int v, int w, long f, long t) {
+    double value(char operand, long modulus) {
+      if (operand == 'n' && f != 0) {
+        return modulus != 0 ? n % modulus : n;
+      }
+      long value = switch (operand) {
+        case 'n', 'i' -> i;
+        case 'v' -> v;
+        case 'w' -> w;
+        case 'f' -> f;
+        case 't' -> t;
+        default -> 0;
+      };
+      return modulus != 0 ? value % modulus : value;
+    }
+  }
+
+  private record Rule(PluralCategory category, Relation[][] condition) {
+    boolean matches(Operands operands) {
+      for (var relations : condition) {
+        var matches = true;
+        for (int r = 0; matches && r < relations.length; r++) {
+          matches = relations[r].matches(operands);
+        }
+        if (matches) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * A relation such as {@code i % 100 != 12..14}, whose ranges are stored as pairs of inclusive bounds
+   */
+  private record Relation(char operand, long modulus, boolean negated, long[] ranges) {
+    static Relation compile(String relation) {
+      var negated = relation.contains("!=");
+      var sides = relation.split("\\s*!?=\\s*");
+      if (sides.length != 2 || sides[0].isEmpty() || "nivwfte".indexOf(sides[0].charAt(0)) < 0) {
+        throw new IllegalArgumentException("Invalid plural rule relation " + relation);
+      }
+      var expression = sides[0];
+      var percent = expression.indexOf('%');
+      var modulus = percent < 0 ? 0 : Long.parseLong(expression.substring(percent + 1).trim());
+      if ((percent < 0 ? expression.length() : expression.substring(0, percent).trim().length()) != 1) {
+        throw new IllegalArgumentException("Invalid plural rule operand " + expression);
+      }
+      var values = sides[1].split(",");
+      var ranges = new long[values.length * 2];
+      for (int v = 0; v < values.length; v++) {
+        var bounds = values[v].trim().split("\\.\\.");
+        ranges[2 * v] = Long.parseLong(bounds[0].trim());
+        ranges[2 * v + 1] = Long.parseLong(bounds[bounds.length - 1].trim());
+      }
+      return new Relation(expression.charAt(0), modulus, negated, ranges);
+    }
+
+    boolean matches(Operands operands) {
+      var value = operands.value(operand, modulus);
+      var found = false;
+      if (value == Math.rint(value)) {
+        for (int r = 0; !found && r < ranges.length; r += 2) {
+          found = ranges[r] <= value && value <= ranges[r + 1];
+        }
+      }
+      return found != negated;
+    }
+  }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Streaming parser of the {@code .properties} syntax, as specified by {@link java.util.Properties#load(Reader)}.
+ * It reads the logical lines, with comments, continuation lines and escapes, in the same way as
+ * {@link java.util.Properties} but writes the entries straight into the target map, without going through a
+ * synchronized table, and converts the value of an entry only if its key is accepted.
+ * Instances are not thread-safe and read their {@link Reader} only once.
+ */
+final class PropertiesParser {
+  private final Reader reader;
+  private final char[] input = new char[8192];
+  private int inputOffset;
+  private int inputLimit;
+  private char[] line = new char[80];
+  private final StringBuilder converted = new StringBuilder();
+
+  /**
+   * Initializes the parser
+   *
+   * @param reader the reader to the {@code .properties} content, which is not closed by this class
+   */
+  PropertiesParser(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Checks if the key is made of dot-separated parts that start with a lowercase ASCII letter followed by ASCII
+   * letters, digits or underscores, i.e. if it matches {@code [a-z]\w*(\.[a-z]\w*)*}, without a regular expression
+   *
+   * @param key the key to be checked
+   * @return true if the key is valid
+   */
+  static boolean isResourceKey(CharSequence key) {
+    var partStart = true;
+    for (int i = 0, length = key.length(); i < length; i++) {
+      var c = key.charAt(i);
+      if (partStart) {
+        if (c < 'a' || c > 'z') {
+          return false;
+        }
+        partStart = false;
+      } else if (c == '.') {
+        partStart = true;
+      } else if (!isWordCharacter(c)) {
+        return false;
+      }
+    }
+    return !partStart;
+  }
+
+  private static boolean isWordCharacter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+  }
+
+  /**
+   * Reads all the entries, a later entry replaces an earlier one with the same key
+   *
+   * @param target where the accepted entries are put
+   * @param keys accepts the keys whose entries are put in {@code target}
+   * @throws IOException when reading fails
+   * @throws IllegalArgumentException if a malformed {@code \}{@code uxxxx} escape is found
+   */
+  void parse(Map<String, String> target, Predicate<? super String> keys) throws IOException {
+    int limit;
+    while ((limit = readLine()) >= 0) {
+      var keyLength = 0;
+      var valueStart = limit;
+      var hasSeparator = false;
+      var precedingBackslash = false;
+      while (keyLength < limit) {
+        var c = line[keyLength];
+        if ((c == '=' || c == ':') && !precedingBackslash) {
+          valueStart = keyLength + 1;
+          hasSeparator = true;
+          break;
+        } else if ((c == ' ' || c == '\t' || c == '\f') && !precedingBackslash) {
+          valueStart = keyLength + 1;
+          break;
+        }
+        precedingBackslash = c == '\\' && !precedingBackslash;
+        keyLength++;
+      }
+      while (valueStart < limit) {
+        var c = line[valueStart];
+        if (c != ' ' && c != '\t' && c != '\f') {
+          if (!hasSeparator && (c == '=' || c == ':')) {
+            hasSeparator = true;
+          } else {
+            break;
+          }
+        }
+        valueStart++;
+      }
+      var key = convert(0, keyLength);
+      if (keys.test(key)) {
+        target.put(key, convert(valueStart, limit - valueStart));
+      } else {
+        // the value of a rejected entry is only checked, so that malformed content fails like Properties does
+        checkEscapes(valueStart, limit);
+      }
+    }
+  }
+
+  /**
+   * Reads the next logical line into {@link PropertiesParser#line}, skipping comments, blank lines and the
+   * leading whitespace, and joining the continuation lines
+   *
+   * @return the length of the line or -1 at the end of the input
+   */
+  private int readLine() throws IOException {
+    var length = 0;
+    var offset = inputOffset;
+    var limit = inputLimit;
+    var skipWhitespace = true;
+    var appendedLineBegin = false;
+    var precedingBackslash = false;
+
+    while (true) {
+      if (offset >= limit) {
+        inputLimit = limit = reader.read(input);
+        if (limit <= 0) {
+          if (length == 0) {
+            return -1;
+          }
+          return precedingBackslash ? length - 1 : length;
+        }
+        offset = 0;
+      }
+
+      var c = input[offset++];
+      if (skipWhitespace) {
+        if (c == ' ' || c == '\t' || c == '\f') {
+          continue;
+        }
+        if (!appendedLineBegin && (c == '\r' || c == '\n')) {
+          continue;
+        }
+        skipWhitespace = false;
+        appendedLineBegin = false;
+      }
+      if (length == 0 && (c == '#' || c == '!')) {
+        if (!skipComment(offset)) {
+          return -1;
+        }
+        offset = inputOffset;
+        limit = inputLimit;
+        skipWhitespace = true;
+        continue;
+      }
+
+      if (c != '\n' && c != '\r') {
+        line[length++] = c;
+        if (length == line.length) {
+          line = Arrays.copyOf(line, length * 2);
+        }
+        precedingBackslash = c == '\\' && !precedingBackslash;
+        continue;
+      }
+
+      if (length == 0) {
+        skipWhitespace = true;
+        continue;
+      }
+      if (offset >= limit) {
+        inputLimit = limit = reader.read(input);
+        offset = 0;
+        if (limit <= 0) {
+          return precedingBackslash ? length - 1 : length;
+        }
+      }
+      if (!precedingBackslash) {
+        inputOffset = offset;
+        return length;
+      }
+      // the backslash of a continuation is not part of the line, and neither is the leading whitespace of the next
+      length--;
+      skipWhitespace = true;
+      appendedLineBegin = true;
+      precedingBackslash = false;
+      if (c == '\r' && input[offset] == '\n') {
+        offset++;
+      }
+    }
+  }
+
+  /**
+   * Consumes the rest of a comment line
+   *
+   * @param offset the position after the comment character
+   * @return false if the input ended in the comment
+   */
+  private boolean skipComment(int offset) throws IOException {
+    var limit = inputLimit;
+    while (true) {
+      while (offset < limit) {
+        var c = input[offset++];
+        if (c == '\n' || c == '\r') {
+          inputOffset = offset;
+          return true;
+        }
+      }
+      inputLimit = limit = reader.read(input);
+      if (limit <= 0) {
+        return false;
+      }
+      offset = 0;
+    }
+  }
+
+  private static int hexDigit(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    } else if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    } else if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    }
+    throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+  }
+
+  private void checkEscapes(int position, int end) {
+    while (position < end) {
+      if (line[position++] != '\\') {
+        continue;
+      }
+      if (line[position++] == 'u') {
+        if (position > end - 4) {
+          throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+        }
+        for (int i = 0; i < 4; i++) {
+          hexDigit(line[position++]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Replaces the escapes of a key or value by the characters they stand for
+   *
+   * @param offset where the text starts in {@link PropertiesParser#line}
+   * @param length the length of the text
+   * @return the unescaped text
+   */
+  private String convert(int offset, int length) {
+    var end = offset + length;
+    var position = offset;
+    while (position < end && line[position] != '\\') {
+      position++;
+    }
+    if (position == end) {
+      return new String(line, offset, length);
+    }
+
+    converted.setLength(0);
+    converted.append(line, offset, position - offset);
+    while (position < end) {
+      var c = line[position++];
+      if (c != '\\') {
+        converted.append(c);
+        continue;
+      }
+      // readLine drops the unescaped backslashes at the end of a line, so another character follows
+      c = line[position++];
+      if (c == 'u') {
+        if (position > end - 4) {
+          throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+        }
+        var value = 0;
+        for (int i = 0; i < 4; i++) {
+          value = (value << 4) + hexDigit(line[position++]);
+        }
+        converted.append((char) value);
+      } else {
+        converted.append(switch (c) {
+          case 't' -> '\t';
+          case 'r' -> '\r';
+          case 'n' -> '\n';
+          case 'f' -> '\f';
+          default -> c;
+        });
+      }
+    }
+    return converted.toString();
+  }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A bundle loaded from files of the host's filesystem that can be reloaded while the application runs, e.g.
+ * while translators edit them. The files are merged like in {@link FallbackResourceBundle}, the first one
+ * taking precedence, and each reload reparses a single file and publishes a new immutable snapshot of the
+ * merged resources at once. Readers never block nor see a partially loaded bundle; they see either the
+ * previous or the next snapshot.
+ * <p>Reloads are usually triggered by a {@link BundleWatcher}, and {@link Listener}s are told which keys
+ * changed so that only the affected parts of the UI need to be refreshed. Keep in mind that scopes retrieved
+ * with {@link #scope(String)} are views of the snapshot they were retrieved from.</p>
+ */
+public class ReloadableResourceBundle extends ResourceBundle {
+  private final List<Path> files;
+  private final BundleFactory factory;
+  private final Loader loader = new Loader.LocalFile();
+  private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+  /**
+   * The last bundle loaded from each file, in the same order as {@link #files}
+   */
+  private final ResourceBundle[] layers;
+  private volatile ResourceBundle snapshot;
+
+  /**
+   * Loads a bundle from a single file
+   *
+   * @param file the file to be loaded
+   * @param locale the locale of the bundle
+   * @param charset the encoding scheme of the file
+   * @param factory parses the file, e.g. {@link BundleFactory#PROPERTIES}
+   * @throws ResourceLoadingException if the file cannot be loaded
+   */
+  public ReloadableResourceBundle(Path file, Locale locale, Charset charset, BundleFactory factory) {
+    this(List.of(file), locale, charset, factory);
+  }
+
+  /**
+   * Loads a bundle merged from several files
+   *
+   * @param files the files to be loaded, ordered from the one whose values take precedence to the last fallback
+   * @param locale the locale of the bundle
+   * @param charset the encoding scheme of the files
+   * @param factory parses each file, e.g. {@link BundleFactory#PROPERTIES}
+   * @throws ResourceLoadingException if a file cannot be loaded
+   * @throws IllegalArgumentException if there is no file
+   */
+  public ReloadableResourceBundle(List<Path> files, Locale locale, Charset charset, BundleFactory factory) {
+    super(new SnapshotMap(), locale, charset);
+    if (files.isEmpty()) {
+      throw new IllegalArgumentException("A reloadable bundle needs at least one file");
+    }
+    this.files = files.stream().map(file -> file.toAbsolutePath().normalize()).toList();
+    this.factory = factory;
+    this.layers = new ResourceBundle[files.size()];
+    for (int i = 0; i < layers.length; i++) {
+      layers[i] = parse(this.files.get(i));
+    }
+    this.snapshot = merge();
+    ((SnapshotMap) resources).bundle = this;
+  }
+
+  /**
+   * Retrieves the files of this bundle
+   *
+   * @return the absolute, normalized paths of the files, from the one taking precedence to the last fallback
+   */
+  public List<Path> getFiles() {
+    return files;
+  }
+
+  /**
+   * Retrieves the current snapshot, which never changes. It can be used to read several messages consistently.
+   *
+   * @return the immutable bundle holding the resources currently published
+   */
+  public ResourceBundle snapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Registers a listener notified after each reload that changed at least one key
+   *
+   * @param listener the listener
+   */
+  public void addListener(Listener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Unregisters a listener
+   *
+   * @param listener the listener added before
+   */
+  public void removeListener(Listener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Reparses the given file, if it is one of this bundle's, and publishes the new resources. If the file
+   * cannot be loaded, e.g. because it is being written or is invalid, the current snapshot is kept and
+   * the listeners are told through {@link Listener#reloadFailed(ReloadableResourceBundle, Path, RuntimeException)}.
+   *
+   * @param file the changed file
+   * @return true if the file belongs to this bundle
+   */
+  public boolean reload(Path file) {
+    var index = files.indexOf(file.toAbsolutePath().normalize());
+    if (index < 0) {
+      return false;
+    }
+    Set<String> changed;
+    synchronized (layers) {
+      ResourceBundle layer;
+      try {
+        layer = parse(files.get(index));
+      } catch (RuntimeException e) {
+        listeners.forEach(listener -> listener.reloadFailed(this, files.get(index), e));
+        return true;
+      }
+      layers[index] = layer;
+      var previous = snapshot;
+      var next = merge();
+      changed = changedKeys(previous.asMap(), next.asMap());
+      snapshot = next;
+    }
+    if (!changed.isEmpty()) {
+      listeners.forEach(listener -> listener.bundleChanged(this, changed));
+    }
+    return true;
+  }
+
+  private ResourceBundle parse(Path file) {
+    return factory.load(loader, file.toString(), locale, charset);
+  }
+
+  private ResourceBundle merge() {
+    return layers.length == 1 ? layers[0] : new FallbackResourceBundle(List.of(layers));
+  }
+
+  private static Set<String> changedKeys(Map<String, String> previous, Map<String, String> next) {
+    var changed = new HashSet<String>();
+    previous.forEach((key, value) -> {
+      if (!value.equals(next.get(key))) {
+        changed.add(key);
+      }
+    });
+    next.keySet().forEach(key -> {
+      if (!previous.containsKey(key)) {
+        changed.add(key);
+      }
+    });
+    return Set.copyOf(changed);
+  }
+
+  @Override
+  public Optional<String> optionalString(String key) {
+    return snapshot.optionalString(key);
+  }
+
+  @Override
+  public Map<String, String> asMap() {
+    return snapshot.asMap();
+  }
+
+  @Override
+  public ResourceBundle freeze() {
+    return snapshot.freeze();
+  }
+
+  @Override
+  public List<String> keysUnder(String prefix) {
+    return snapshot.keysUnder(prefix);
+  }
+
+  @Override
+  public ResourceBundle scope(String prefix) {
+    return prefix.isEmpty() ? this : snapshot.scope(prefix);
+  }
+
+  @Override
+  public String format(String key, Object... args) {
+    return snapshot.format(key, args);
+  }
+
+  @Override
+  public String format(String key, Object arg0) {
+    return snapshot.format(key, arg0);
+  }
+
+  @Override
+  public String format(String key, Object arg0, Object arg1) {
+    return snapshot.format(key, arg0, arg1);
+  }
+
+  @Override
+  public String format(String key, Object arg0, Object arg1, Object arg2) {
+    return snapshot.format(key, arg0, arg1, arg2);
+  }
+
+  @Override
+  public String plural(String key, long count) {
+    return snapshot.plural(key, count);
+  }
+
+  @Override
+  public String plural(String key, BigDecimal count) {
+    return snapshot.plural(key, count);
+  }
+
+  /**
+   * Receives the changes of a {@link ReloadableResourceBundle}. Listeners are called from the thread that
+   * reloaded the bundle, e.g. the one of a {@link BundleWatcher}, thus UI code should hand the work over
+   * to its own thread, e.g. with {@code Platform.runLater} in JavaFX.
+   */
+  @FunctionalInterface
+  public interface Listener {
+    /**
+     * Called after a new snapshot is published
+     *
+     * @param bundle the reloaded bundle
+     * @param changedKeys the keys added, removed or whose value changed
+     */
+    void bundleChanged(ReloadableResourceBundle bundle, Set<String> changedKeys);
+
+    /**
+     * Called when a file of the bundle could not be reloaded, the bundle keeps its current snapshot
+     *
+     * @param bundle the bundle being reloaded
+     * @param file the file that failed
+     * @param cause the error
+     */
+    default void reloadFailed(ReloadableResourceBundle bundle, Path file, RuntimeException cause) {
+    }
+  }
+
+  /**
+   * Keeps {@link ResourceBundle#resources} pointing to the current snapshot
+   */
+  private static final class SnapshotMap extends AbstractMap<String, String> {
+    private ReloadableResourceBundle bundle;
+
+    private Map<String, String> current() {
+      return bundle.snapshot.asMap();
+    }
+
+    @Override
+    public String get(Object key) {
+      return current().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return current().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return current().size();
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+      return current().entrySet();
+    }
+  }
+}
@@ -32,14 +32,17 @@ package systems.terranatal.omnijfx.internationalization;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -61,6 +64,22 @@ public abstract class ResourceBundle {
    */
   protected final Charset charset;
 
+  /**
+   * Index of the keys by segment, built on the first call to {@link #scope(String)} or {@link #keysUnder(String)}
+   */
+  private volatile KeyTrie keyIndex;
+
+  /**
+   * Compiled formats of the messages, created on the first call to one of the {@code format} methods
+   */
+  private volatile MessageFormatCache formats;
+
+  /**
+   * Keys of the variants of each pluralized message by {@link PluralCategory}, created on the first call to one
+   * of the {@code plural} methods
+   */
+  private volatile Map<String, String[]> pluralKeys;
+
   /**
    * The main constructor
    *
@@ -82,6 +101,14 @@ public abstract class ResourceBundle {
     return locale;
   }
 
+  /**
+   * Retrieves a read-only view of all the resources of this bundle
+   * @return the resources mapped by their keys
+   */
+  public Map<String, String> asMap() {
+    return Collections.unmodifiableMap(resources);
+  }
+
   /**
    * Null-safe retrieval of a localized message
    * @param key the search key
@@ -101,20 +128,269 @@ public abstract class ResourceBundle {
    *
    */
   public String stringFor(String key) {
-    return optionalString(key).orElseThrow(supplyException(key));
+    var event = LookupEvent.sample();
+    var value = optionalString(key);
+    if (value.isEmpty()) {
+      LookupMissEvent.record(this, key);
+      throw supplyException(key).get();
+    }
+    if (event != null) {
+      event.record(this, key);
+    }
+    return value.get();
   }
 
   private Supplier<RuntimeException> supplyException(String key) {
     return () -> new NoSuchElementException("Key %s not found".formatted(key));
   }
 
+  /**
+   * Formats the message of the given key as a {@link java.text.MessageFormat} pattern with this bundle's locale.
+   * The pattern is compiled on the first call for each key and cached, and the cache can be used by many threads
+   * at once, so this is much cheaper than {@link java.text.MessageFormat#format(String, Object...)}.
+   *
+   * @param key the resource key
+   * @param args the arguments of the message
+   * @return the formatted message
+   * @throws NoSuchElementException if no message is found for the key
+   * @throws IllegalArgumentException if the message is not a valid pattern or an argument has the wrong type
+   */
+  public String format(String key, Object... args) {
+    return formats().format(key, args);
+  }
+
+  /**
+   * Formats a message with a single argument, see {@link #format(String, Object...)}.
+   * It does not allocate an argument array.
+   *
+   * @param key the resource key
+   * @param arg0 the argument {@code {0}}
+   * @return the formatted message
+   * @throws NoSuchElementException if no message is found for the key
+   * @throws IllegalArgumentException if the message is not a valid pattern or the argument has the wrong type
+   */
+  public String format(String key, Object arg0) {
+    return formats().format(key, arg0);
+  }
+
+  /**
+   * Formats a message with two arguments, see {@link #format(String, Object...)}.
+   * It does not allocate an argument array.
+   *
+   * @param key the resource key
+   * @param arg0 the argument {@code {0}}
+   * @param arg1 the argument {@code {1}}
+   * @return the formatted message
+   * @throws NoSuchElementException if no message is found for the key
+   * @throws IllegalArgumentException if the message is not a valid pattern or an argument has the wrong type
+   */
+  public String format(String key, Object arg0, Object arg1) {
+    return formats().format(key, arg0, arg1);
+  }
+
+  /**
+   * Formats a message with three arguments, see {@link #format(String, Object...)}.
+   * It does not allocate an argument array.
+   *
+   * @param key the resource key
+   * @param arg0 the argument {@code {0}}
+   * @param arg1 the argument {@code {1}}
+   * @param arg2 the argument {@code {2}}
+   * @return the formatted message
+   * @throws NoSuchElementException if no message is found for the key
+   * @throws IllegalArgumentException if the message is not a valid pattern or an argument has the wrong type
+   */
+  public String format(String key, Object arg0, Object arg1, Object arg2) {
+    return formats().format(key, arg0, arg1, arg2);
+  }
+
+  /**
+   * Formats the variant of a pluralized message that matches the count in this bundle's language, as selected
+   * by {@link PluralRules#forLocale(Locale)}. The variants are stored under the message key followed by the
+   * suffix of their {@link PluralCategory}, e.g. {@code unitsRemaining.one} and {@code unitsRemaining.other}.
+   * A {@code zero} variant, if present, is used for a count of 0 even in languages without that category, and
+   * missing variants fall back to {@code other}. The variant is formatted like {@link #format(String, Object)}
+   * with the count as the argument {@code {0}}, so there is no {@link java.text.ChoiceFormat} to evaluate.
+   *
+   * @param key the key of the pluralized message
+   * @param count the count the message is about
+   * @return the formatted message
+   * @throws NoSuchElementException if neither the variant of the count nor the {@code other} variant is found
+   * @throws IllegalArgumentException if the variant is not a valid pattern
+   */
+  public String plural(String key, long count) {
+    var category = PluralRules.forLocale(locale).select(count);
+    return formats().format(pluralVariant(key, category, count == 0), count);
+  }
+
+  /**
+   * Formats the variant of a pluralized message that matches a decimal count, see {@link #plural(String, long)}.
+   * Visible fraction digits matter, e.g. {@code 1.0} takes the {@code other} variant in English.
+   *
+   * @param key the key of the pluralized message
+   * @param count the count the message is about
+   * @return the formatted message
+   * @throws NoSuchElementException if neither the variant of the count nor the {@code other} variant is found
+   * @throws IllegalArgumentException if the variant is not a valid pattern
+   */
+  public String plural(String key, BigDecimal count) {
+    var category = PluralRules.forLocale(locale).select(count);
+    return formats().format(pluralVariant(key, category, count.signum() == 0), count);
+  }
+
+  private String pluralVariant(String key, PluralCategory category, boolean zero) {
+    if (key == null) {
+      throw supplyException(null).get();
+    }
+    var keys = pluralKeys;
+    if (keys == null) {
+      keys = new ConcurrentHashMap<>();
+      pluralKeys = keys;
+    }
+    var variants = keys.computeIfAbsent(key, ResourceBundle::pluralVariants);
+    if (zero && optionalString(variants[PluralCategory.ZERO.ordinal()]).isPresent()) {
+      return variants[PluralCategory.ZERO.ordinal()];
+    }
+    var variant = variants[category.ordinal()];
+    if (category != PluralCategory.OTHER && optionalString(variant).isPresent()) {
+      return variant;
+    }
+    return variants[PluralCategory.OTHER.ordinal()];
+  }
+
+  private static String[] pluralVariants(String key) {
+    var categories = PluralCategory.values();
+    var variants = new String[categories.length];
+    for (var category : categories) {
+      variants[category.ordinal()] = key + "." + category.suffix();
+    }
+    return variants;
+  }
+
+  private MessageFormatCache formats() {
+    var cache = formats;
+    if (cache == null) {
+      cache = new MessageFormatCache(locale, this::stringFor);
+      formats = cache;
+    }
+    return cache;
+  }
+
+  /**
+   * Lists the keys in the namespace of the given prefix, i.e. the prefix itself if it is a key and every
+   * key starting with the prefix followed by a dot. The keys are indexed by segment on the first call,
+   * after which the cost only depends on the number of keys found, not on the size of the bundle.
+   *
+   * @param prefix a dot-separated namespace such as {@code messages.formatted}
+   * @return the full keys found, in no particular order
+   */
+  public List<String> keysUnder(String prefix) {
+    return keyIndex().keysUnder(prefix);
+  }
+
+  /**
+   * Retrieves a view of the resources under the given namespace, looked up by their keys relative to it,
+   * e.g. {@code bundle.scope("messages.formatted").stringFor("title")} returns the value of
+   * {@code messages.formatted.title}. This avoids concatenating the prefix on every lookup and only
+   * searches the keys of that namespace. Scopes are cached with the key index, so retrieving the scope of an
+   * existing namespace again returns the same instance.
+   *
+   * @param prefix a dot-separated namespace such as {@code messages.formatted}
+   * @return a read-only bundle with the keys strictly under the prefix, empty if there is none
+   */
+  public ResourceBundle scope(String prefix) {
+    if (prefix.isEmpty()) {
+      return this;
+    }
+    return keyIndex().view(prefix, scoped -> new ScopedResourceBundle(this, prefix, scoped));
+  }
+
+  private KeyTrie keyIndex() {
+    var index = keyIndex;
+    if (index == null) {
+      index = new KeyTrie(asMap());
+      keyIndex = index;
+    }
+    return index;
+  }
+
+  /**
+   * Copies this bundle into a read-only {@link FrozenResourceBundle}, whose storage is more compact than the
+   * {@link HashMap} used while loading. It is meant for bundles that are kept in memory for a long time.
+   *
+   * @return the frozen copy of this bundle
+   */
+  public ResourceBundle freeze() {
+    return new FrozenResourceBundle(this);
+  }
+
+  /**
+   * Immutable copy of another bundle, stored in a compact open-addressing table instead of a {@link HashMap}.
+   * Its lookups are at least as fast as the original's while taking significantly less memory per key.
+   */
+  public static class FrozenResourceBundle extends ResourceBundle {
+    /**
+     * Copies the resources of the given bundle
+     *
+     * @param source the bundle to be frozen
+     */
+    public FrozenResourceBundle(ResourceBundle source) {
+      super(new CompactStringMap(source.asMap()), source.locale, source.charset);
+    }
+
+    /**
+     * This bundle is already frozen
+     *
+     * @return this bundle
+     */
+    @Override
+    public ResourceBundle freeze() {
+      return this;
+    }
+  }
+
+  /**
+   * Read-only view of the resources under a namespace of another bundle, keyed relatively to it.
+   * Instances are returned by {@link ResourceBundle#scope(String)}.
+   */
+  public static class ScopedResourceBundle extends ResourceBundle {
+    private final ResourceBundle parent;
+    private final String prefix;
+
+    private ScopedResourceBundle(ResourceBundle parent, String prefix, Map<String, String> resources) {
+      super(resources, parent.locale, parent.charset);
+      this.parent = parent;
+      this.prefix = prefix;
+    }
+
+    /**
+     * Retrieves the namespace of this scope in the original bundle
+     * @return the prefix removed from the keys of this scope
+     */
+    public String getPrefix() {
+      return prefix;
+    }
+
+    /**
+     * Narrows this scope using the index of the original bundle
+     *
+     * @param prefix a namespace relative to this scope
+     * @return the scope of {@code getPrefix() + "." + prefix} in the original bundle
+     */
+    @Override
+    public ResourceBundle scope(String prefix) {
+      return prefix.isEmpty() ? this : parent.scope(this.prefix + "." + prefix);
+    }
+  }
+
   /**
    * Class specialized in loading contents in the Java {@code properties} layout.
    */
   public static class PropertyResourceBundle extends ResourceBundle {
     /**
-     * Parses the {@code .properties} content and adds each entry at once to the {@link ResourceBundle#resources}
-     * map. Entries whose key parts are not in the Java identifier syntax are not added to {@link ResourceBundle#resources}
+     * Parses the {@code .properties} content and adds each entry to the {@link ResourceBundle#resources} map while
+     * it is read. Entries whose key parts are not in the Java identifier syntax are not added to
+     * {@link ResourceBundle#resources}
      *
      * @param reader the reader to the {@code .properties} file contents
      * @param locale the {@link Locale} passed to the superclass
@@ -123,13 +399,7 @@ public abstract class ResourceBundle {
      */
     public PropertyResourceBundle(Reader reader, Locale locale, Charset charset) throws IOException {
       super(new HashMap<>(), locale, charset);
-      var p = new Properties();
-      p.load(reader);
-      p.forEach((key, value) -> {
-        if (key.toString().matches("^[a-z]\\w*(\\.[a-z]\\w*)*")) {
-          resources.put(key.toString(), value.toString());
-        }
-      });
+      new PropertiesParser(reader).parse(resources, PropertiesParser::isResourceKey);
     }
   }
 }
@@ -30,10 +30,15 @@
 
 package systems.terranatal.omnijfx.internationalization;
 
+import java.nio.file.Path;
+
 /**
  * Application exception for resource file loading issues.
  */
 public class ResourceLoadingException extends RuntimeException {
+  static final String CLASSPATH = "the classpath";
+  static final String HOST_FILE_SYSTEM = "the host file system";
+
   /**
    * The name (can be URI string) of the resource attempted to be loaded
    */
@@ -70,6 +75,20 @@ public class ResourceLoadingException extends RuntimeException {
     this.source = source;
   }
 
+  /**
+   * Initializes this Exception with both a custom message and a cause
+   *
+   * @param resourceName the name (can be URI string) of the resource attempted to be loaded
+   * @param source where the resource was located, ie. in the classpath, host filesystem, network...
+   * @param message the custom message
+   * @param cause the exception that caused this issue
+   */
+  protected ResourceLoadingException(String resourceName, String source, String message, Throwable cause) {
+    super("%s could not be loaded from %s. %s".formatted(resourceName, source, message), cause);
+    this.resourceName = resourceName;
+    this.source = source;
+  }
+
   /**
    * Factory method that instantiates a {@link ResourceLoadingException} caused by an issue reading a file
    * from the classpath
@@ -79,7 +98,7 @@ public class ResourceLoadingException extends RuntimeException {
    * @return the initialized {@link ResourceLoadingException}
    */
   public static ResourceLoadingException fromClasspath(String resourceName, Throwable cause) {
-    return new ResourceLoadingException(resourceName, "the classpath", cause);
+    return new ResourceLoadingException(resourceName, CLASSPATH, cause);
   }
 
   /**
@@ -91,7 +110,7 @@ public class ResourceLoadingException extends RuntimeException {
    * @return the initialized {@link ResourceLoadingException}
    */
   public static ResourceLoadingException fromClasspath(String resourceName, String message) {
-    return new ResourceLoadingException(resourceName, "the classpath", message);
+    return new ResourceLoadingException(resourceName, CLASSPATH, message);
   }
 
   /**
@@ -103,7 +122,7 @@ public class ResourceLoadingException extends RuntimeException {
    * @return the initialized {@link ResourceLoadingException}
    */
   public static ResourceLoadingException fromLocalFileSystem(String resourceName, Throwable cause) {
-    return new ResourceLoadingException(resourceName, "the host file system", cause);
+    return new ResourceLoadingException(resourceName, HOST_FILE_SYSTEM, cause);
   }
 
   /**
@@ -115,6 +134,65 @@ public class ResourceLoadingException extends RuntimeException {
    * @return the initialized {@link ResourceLoadingException}
    */
   public static ResourceLoadingException fromLocalFileSystem(String resourceName, String message) {
-    return new ResourceLoadingException(resourceName, "the host file system", message);
+    return new ResourceLoadingException(resourceName, HOST_FILE_SYSTEM, message);
+  }
+
+  /**
+   * Factory method that instantiates a {@link ResourceLoadingException} caused by an issue reading an entry
+   * of an archive
+   *
+   * @param archive the path to the archive
+   * @param resourceName the name (can be URI string) of the resource attempted to be loaded
+   * @param cause the {@link Throwable} that caused the issue to load the resource
+   * @return the initialized {@link ResourceLoadingException}
+   */
+  public static ResourceLoadingException fromArchive(Path archive, String resourceName, Throwable cause) {
+    return new ResourceLoadingException(resourceName, source(archive), cause);
+  }
+
+  /**
+   * Factory method that instantiates a {@link ResourceLoadingException} with a custom message
+   * during the loading of an entry of an archive
+   *
+   * @param archive the path to the archive
+   * @param resourceName the name (can be URI string) of the resource attempted to be loaded
+   * @param message a custom message
+   * @return the initialized {@link ResourceLoadingException}
+   */
+  public static ResourceLoadingException fromArchive(Path archive, String resourceName, String message) {
+    return new ResourceLoadingException(resourceName, source(archive), message);
+  }
+
+  static String source(Path archive) {
+    return "the archive " + archive;
+  }
+
+  /**
+   * Factory method that instantiates a {@link ResourceLoadingException} caused by an issue reading a file
+   * through the given {@link Loader}
+   *
+   * @param loader the loader that failed to load the resource
+   * @param resourceName the name (can be URI string) of the resource attempted to be loaded
+   * @param cause the {@link Throwable} that caused the issue to load the resource
+   * @return the initialized {@link ResourceLoadingException}
+   */
+  public static ResourceLoadingException fromLoader(Loader loader, String resourceName, Throwable cause) {
+    return new ResourceLoadingException(resourceName, source(loader), cause);
+  }
+
+  /**
+   * Describes where the given {@link Loader} looks for the resources
+   */
+  static String source(Loader loader) {
+    if (loader instanceof Loader.Classpath) {
+      return CLASSPATH;
+    }
+    if (loader instanceof Loader.LocalFile || loader instanceof Loader.MappedFile) {
+      return HOST_FILE_SYSTEM;
+    }
+    if (loader instanceof Loader.Archive archive) {
+      return source(archive.getPath());
+    }
+    return loader.getClass().getSimpleName();
   }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for every {@link ResourceLoadingException} thrown by the {@link Loader}s,
+ * {@link BundleFactory#load(Loader, String, java.util.Locale, java.nio.charset.Charset)} and
+ * {@link FallbackResourceBundle}. The candidates of a fallback chain are checked with {@link Loader#exists(String)}
+ * before being loaded, so the files that are expected to be missing are not reported unless the loader cannot tell
+ * in advance whether they exist. The exceptions that are only created, or thrown by other {@link Loader}
+ * implementations, are not recorded either.
+ */
+@Name("omnijfx.ResourceLoadingFailure")
+@Label("Resource Loading Failure")
+@Category({"OmniJFx", "Internationalization"})
+@Description("A resource that could not be loaded")
+final class ResourceLoadingFailureEvent extends Event {
+  @Label("Resource")
+  String resource;
+
+  @Label("Source")
+  String source;
+
+  @Label("Message")
+  String message;
+
+  @Label("Cause")
+  Class<?> cause;
+
+  /**
+   * Commits an event for an exception about to be thrown, if events are recorded
+   *
+   * @param exception the exception being thrown
+   * @param <E> the type of the exception
+   * @return the exception, so that it can be thrown right away
+   */
+  static <E extends ResourceLoadingException> E record(E exception) {
+    var event = new ResourceLoadingFailureEvent();
+    if (event.shouldCommit()) {
+      event.resource = exception.resourceName;
+      event.source = exception.source;
+      event.message = exception.getMessage();
+      event.cause = exception.getCause() != null ? exception.getCause().getClass() : null;
+      event.commit();
+    }
+    return exception;
+  }
+}
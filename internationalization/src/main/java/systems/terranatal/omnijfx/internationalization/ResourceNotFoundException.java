@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.util.List;
+
+/**
+ * Thrown by the {@link Loader}s when the requested resource does not exist, as opposed to a resource that exists
+ * but cannot be read. It allows the callers probing for optional files, such as
+ * {@link FallbackResourceBundle#load(String, String, java.util.Locale, java.nio.charset.Charset, Loader, BundleFactory)},
+ * to skip the missing ones while still reporting the other failures.
+ */
+public class ResourceNotFoundException extends ResourceLoadingException {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Initializes this Exception
+   *
+   * @param resourceName the name (can be URI string) of the resource attempted to be loaded
+   * @param source where the resource was looked for, ie. in the classpath, host filesystem, network...
+   */
+  public ResourceNotFoundException(String resourceName, String source) {
+    super(resourceName, source, "%s not found.".formatted(resourceName));
+  }
+
+  /**
+   * Initializes this Exception with the error that reported the missing resource
+   *
+   * @param resourceName the name (can be URI string) of the resource attempted to be loaded
+   * @param source where the resource was looked for, ie. in the classpath, host filesystem, network...
+   * @param cause the exception that reported the missing resource
+   */
+  public ResourceNotFoundException(String resourceName, String source, Throwable cause) {
+    super(resourceName, source, "%s not found.".formatted(resourceName), cause);
+  }
+
+  /**
+   * Initializes this Exception for a resource that was looked for under several names, none of which exists
+   *
+   * @param resourceName the name (can be URI string) of the resource attempted to be loaded
+   * @param source where the resource was looked for, ie. in the classpath, host filesystem, network...
+   * @param candidates the names that were tried, in the order they were tried
+   */
+  public ResourceNotFoundException(String resourceName, String source, List<String> candidates) {
+    super(resourceName, source, "None of %s was found.".formatted(String.join(", ", candidates)));
+  }
+}
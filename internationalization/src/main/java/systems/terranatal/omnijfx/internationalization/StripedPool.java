@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, lock-free pool of reusable objects that are not thread-safe, such as {@link java.text.Format}s.
+ * The slots are striped by the identity of the calling thread so that concurrent threads, including virtual
+ * ones, mostly touch different slots. When no idle object is found a new one is created, and an object
+ * returned to a full pool is simply discarded, so callers never block.
+ *
+ * @param <T> the type of the pooled objects
+ */
+final class StripedPool<T> {
+  private static final int PROBES = 4;
+
+  private final AtomicReferenceArray<T> slots;
+  private final int mask;
+  private final Supplier<? extends T> factory;
+
+  /**
+   * Initializes a pool with about two slots per available processor
+   *
+   * @param factory creates a new object whenever the pool has no idle one
+   */
+  StripedPool(Supplier<? extends T> factory) {
+    this(2 * Runtime.getRuntime().availableProcessors(), factory);
+  }
+
+  /**
+   * Initializes the pool
+   *
+   * @param capacity the maximum number of idle objects, rounded up to the next power of two
+   * @param factory creates a new object whenever the pool has no idle one
+   */
+  StripedPool(int capacity, Supplier<? extends T> factory) {
+    var size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+    this.factory = factory;
+  }
+
+  /**
+   * Takes an idle object from the pool or creates a new one. The caller has exclusive access to it
+   * until it is given back through {@link StripedPool#release(Object)}.
+   *
+   * @return an object for the exclusive use of the caller
+   */
+  T borrow() {
+    var start = stripe();
+    for (int i = 0; i < PROBES; i++) {
+      var index = (start + i) & mask;
+      var item = slots.get(index);
+      if (item != null && slots.compareAndSet(index, item, null)) {
+        return item;
+      }
+    }
+    return factory.get();
+  }
+
+  /**
+   * Gives an object back to the pool, the caller must not use it afterward
+   *
+   * @param item the object previously obtained by {@link StripedPool#borrow()}
+   */
+  void release(T item) {
+    var start = stripe();
+    for (int i = 0; i < PROBES; i++) {
+      var index = (start + i) & mask;
+      if (slots.get(index) == null && slots.compareAndSet(index, null, item)) {
+        return;
+      }
+    }
+  }
+
+  private int stripe() {
+    var hash = System.identityHashCode(Thread.currentThread());
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization.binary;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes resources in the binary format read by {@link BinaryResourceBundle}. All numbers are big-endian
+ * {@code int}s and the layout is:
+ * <pre>
+ *   magic        'OJFB'
+ *   version      1
+ *   count        number of entries
+ *   index        count x (key hash, key offset, key length, value offset, value length)
+ *   string pool  UTF-16BE characters
+ * </pre>
+ * The index is sorted by the {@link String#hashCode()} of the keys, then by the keys themselves, and the
+ * offsets and lengths are counted in characters from the start of the string pool. Identical strings are
+ * stored only once in the pool.
+ */
+public final class BinaryBundleWriter {
+  static final int MAGIC = 0x4F4A4642;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 3 * Integer.BYTES;
+  static final int INDEX_ENTRY_SIZE = 5 * Integer.BYTES;
+
+  private BinaryBundleWriter() {
+  }
+
+  /**
+   * Writes the given resources, the stream is flushed but not closed
+   *
+   * @param resources the resources to be written
+   * @param out where the binary bundle is written to
+   * @throws IOException if writing fails
+   */
+  public static void write(Map<String, String> resources, OutputStream out) throws IOException {
+    var keys = new ArrayList<>(resources.keySet());
+    keys.sort(Comparator.comparingInt(String::hashCode).thenComparing(Comparator.naturalOrder()));
+
+    var pool = new StringBuilder();
+    var offsets = new HashMap<String, Integer>();
+    var data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(keys.size());
+    for (var key : keys) {
+      var value = resources.get(key);
+      data.writeInt(key.hashCode());
+      data.writeInt(offsets.computeIfAbsent(key, k -> append(pool, k)));
+      data.writeInt(key.length());
+      data.writeInt(offsets.computeIfAbsent(value, v -> append(pool, v)));
+      data.writeInt(value.length());
+    }
+    data.writeChars(pool.toString());
+    data.flush();
+  }
+
+  private static int append(StringBuilder pool, String text) {
+    var offset = pool.length();
+    pool.append(text);
+    return offset;
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization.binary;
+
+import systems.terranatal.omnijfx.internationalization.ResourceBundle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static systems.terranatal.omnijfx.internationalization.binary.BinaryBundleWriter.HEADER_SIZE;
+import static systems.terranatal.omnijfx.internationalization.binary.BinaryBundleWriter.INDEX_ENTRY_SIZE;
+import static systems.terranatal.omnijfx.internationalization.binary.BinaryBundleWriter.MAGIC;
+import static systems.terranatal.omnijfx.internationalization.binary.BinaryBundleWriter.VERSION;
+
+/**
+ * Reads bundles compiled ahead of time by {@link BundleCompiler} in the format described in
+ * {@link BinaryBundleWriter}. Nothing is parsed when the bundle is built: lookups binary-search the index
+ * of the compiled file and compare the keys in place, and each value is decoded from the string pool only
+ * the first time it is requested.
+ */
+public class BinaryResourceBundle extends ResourceBundle {
+
+  /**
+   * Reads the bundle from the given buffer, which is used directly without copying it,
+   * e.g. a memory-mapped file. The buffer must not be modified afterward.
+   *
+   * @param buffer the contents of a compiled bundle
+   * @param locale the locale of the bundle
+   * @throws IllegalArgumentException if the buffer does not hold a compiled bundle
+   */
+  public BinaryResourceBundle(ByteBuffer buffer, Locale locale) {
+    super(new IndexedMap(buffer), locale, StandardCharsets.UTF_16BE);
+  }
+
+  /**
+   * Reads the bundle from the given stream, which is consumed but not closed
+   *
+   * @param in the stream to the contents of a compiled bundle
+   * @param locale the locale of the bundle
+   * @throws IOException if reading the stream fails
+   * @throws IllegalArgumentException if the stream does not hold a compiled bundle
+   */
+  public BinaryResourceBundle(InputStream in, Locale locale) throws IOException {
+    this(ByteBuffer.wrap(in.readAllBytes()), locale);
+  }
+
+  /**
+   * Read-only map over the index of a compiled bundle
+   */
+  private static final class IndexedMap extends AbstractMap<String, String> {
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int pool;
+    /**
+     * Values already decoded, racing threads may decode the same value twice but always to equal strings
+     */
+    private final String[] values;
+
+    private IndexedMap(ByteBuffer buffer) {
+      this.buffer = buffer.duplicate();
+      var start = this.buffer.position();
+      if (this.buffer.remaining() < HEADER_SIZE || this.buffer.getInt(start) != MAGIC) {
+        throw new IllegalArgumentException("The buffer does not contain a compiled bundle");
+      }
+      if (this.buffer.getInt(start + 4) != VERSION) {
+        throw new IllegalArgumentException("Unsupported compiled bundle version %d"
+            .formatted(this.buffer.getInt(start + 4)));
+      }
+      this.count = this.buffer.getInt(start + 8);
+      if (count < 0 || (long) count * INDEX_ENTRY_SIZE > this.buffer.remaining() - HEADER_SIZE) {
+        throw new IllegalArgumentException("The index of %d entries does not fit in the %d bytes of the compiled bundle"
+            .formatted(count, this.buffer.remaining()));
+      }
+      this.pool = start + HEADER_SIZE + count * INDEX_ENTRY_SIZE;
+      this.values = new String[count];
+    }
+
+    private int entry(int index) {
+      return pool - (count - index) * INDEX_ENTRY_SIZE;
+    }
+
+    private int find(String key) {
+      var hash = key.hashCode();
+      int low = 0;
+      int high = count - 1;
+      while (low <= high) {
+        var middle = (low + high) >>> 1;
+        var candidate = buffer.getInt(entry(middle));
+        if (candidate < hash) {
+          low = middle + 1;
+        } else if (candidate > hash) {
+          high = middle - 1;
+        } else {
+          var first = middle;
+          while (first > 0 && buffer.getInt(entry(first - 1)) == hash) {
+            first--;
+          }
+          for (int i = first; i < count && buffer.getInt(entry(i)) == hash; i++) {
+            if (keyEquals(i, key)) {
+              return i;
+            }
+          }
+          return -1;
+        }
+      }
+      return -1;
+    }
+
+    private boolean keyEquals(int index, String key) {
+      var offset = entry(index);
+      var length = buffer.getInt(offset + 8);
+      if (length != key.length()) {
+        return false;
+      }
+      var chars = pool + buffer.getInt(offset + 4) * Character.BYTES;
+      for (int i = 0; i < length; i++) {
+        if (buffer.getChar(chars + i * Character.BYTES) != key.charAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private String decode(int offset, int length) {
+      var chars = new char[length];
+      var start = pool + offset * Character.BYTES;
+      for (int i = 0; i < length; i++) {
+        chars[i] = buffer.getChar(start + i * Character.BYTES);
+      }
+      return new String(chars);
+    }
+
+    private String key(int index) {
+      var offset = entry(index);
+      return decode(buffer.getInt(offset + 4), buffer.getInt(offset + 8));
+    }
+
+    private String value(int index) {
+      var value = values[index];
+      if (value == null) {
+        var offset = entry(index);
+        value = decode(buffer.getInt(offset + 12), buffer.getInt(offset + 16));
+        values[index] = value;
+      }
+      return value;
+    }
+
+    @Override
+    public String get(Object key) {
+      if (!(key instanceof String text)) {
+        return null;
+      }
+      var index = find(text);
+      return index >= 0 ? value(index) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return key instanceof String text && find(text) >= 0;
+    }
+
+    @Override
+    public int size() {
+      return count;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<String, String>> iterator() {
+          return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+              return next < count;
+            }
+
+            @Override
+            public Entry<String, String> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              var entry = new SimpleImmutableEntry<>(key(next), value(next));
+              next++;
+              return entry;
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return count;
+        }
+      };
+    }
+  }
+}
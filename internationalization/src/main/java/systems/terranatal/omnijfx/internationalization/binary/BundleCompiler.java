@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization.binary;
+
+import systems.terranatal.omnijfx.internationalization.ResourceBundle;
+import systems.terranatal.omnijfx.internationalization.yaml.YamlResourceBundle;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Compiles {@code .yaml}, {@code .yml} and {@code .properties} bundles into the binary format read by
+ * {@link BinaryResourceBundle}, so that applications do not parse them at startup. The files are loaded with
+ * {@link YamlResourceBundle} and {@link ResourceBundle.PropertyResourceBundle}, which guarantees the compiled
+ * keys follow the same flattening and filtering rules as the ones loaded at runtime.
+ * <p>It is meant to run at build time, e.g. through the {@code registerBundleCompilation} function of the
+ * build conventions, with the arguments {@code <source directory> <output directory> [charset]}. Each
+ * compiled file keeps its relative path and name, with the extension replaced by {@code .ojfb}.</p>
+ */
+public final class BundleCompiler {
+  /**
+   * Extension of the compiled bundles
+   */
+  public static final String EXTENSION = ".ojfb";
+
+  private BundleCompiler() {
+  }
+
+  /**
+   * Compiles every bundle found under the source directory
+   *
+   * @param args the source directory, the output directory and optionally the charset of the sources,
+   *             which defaults to UTF-8. Files starting with a UTF-16 byte order mark are read as UTF-16.
+   * @throws IOException if reading or writing a file fails
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: BundleCompiler <source directory> <output directory> [charset]");
+      System.exit(1);
+    }
+    var charset = args.length > 2 ? Charset.forName(args[2]) : StandardCharsets.UTF_8;
+    compileAll(Path.of(args[0]), Path.of(args[1]), charset);
+  }
+
+  /**
+   * Compiles every bundle found under the source directory
+   *
+   * @param sourceDirectory where the bundles are searched, recursively
+   * @param outputDirectory where the compiled bundles are written
+   * @param charset the charset of the sources without byte order mark
+   * @throws IOException if reading or writing a file fails
+   */
+  public static void compileAll(Path sourceDirectory, Path outputDirectory, Charset charset) throws IOException {
+    try (var files = Files.walk(sourceDirectory)) {
+      for (var source : (Iterable<Path>) files.filter(BundleCompiler::isBundle)::iterator) {
+        var relative = sourceDirectory.relativize(source).toString();
+        var target = outputDirectory.resolve(relative.substring(0, relative.lastIndexOf('.')) + EXTENSION);
+        compile(source, target, charset);
+      }
+    }
+  }
+
+  /**
+   * Compiles a single bundle
+   *
+   * @param source the {@code .yaml}, {@code .yml} or {@code .properties} file
+   * @param target the compiled file, its parent directories are created if needed
+   * @param charset the charset of the source if it has no UTF-16 byte order mark
+   * @throws IOException if reading or writing a file fails
+   */
+  public static void compile(Path source, Path target, Charset charset) throws IOException {
+    ResourceBundle bundle;
+    try (var reader = open(source, charset)) {
+      bundle = source.toString().endsWith(".properties")
+          ? new ResourceBundle.PropertyResourceBundle(reader, Locale.ROOT, charset)
+          : new YamlResourceBundle(reader, Locale.ROOT, charset);
+    }
+    if (target.getParent() != null) {
+      Files.createDirectories(target.getParent());
+    }
+    try (var out = Files.newOutputStream(target)) {
+      BinaryBundleWriter.write(bundle.asMap(), out);
+    }
+  }
+
+  private static boolean isBundle(Path path) {
+    var name = path.getFileName().toString();
+    return Files.isRegularFile(path)
+        && (name.endsWith(".yaml") || name.endsWith(".yml") || name.endsWith(".properties"));
+  }
+
+  private static Reader open(Path source, Charset charset) throws IOException {
+    var in = new PushbackInputStream(Files.newInputStream(source), 2);
+    var bom = new byte[2];
+    var read = in.readNBytes(bom, 0, 2);
+    in.unread(bom, 0, read);
+    var utf16 = read == 2 && ((bom[0] == (byte) 0xFE && bom[1] == (byte) 0xFF)
+        || (bom[0] == (byte) 0xFF && bom[1] == (byte) 0xFE));
+    return new InputStreamReader(in, utf16 ? StandardCharsets.UTF_16 : charset);
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization.yaml;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Walks the nested {@link Map}s and {@link Iterable}s emitted by SnakeYAML without recursion, stopping at
+ * each string leaf with its flattened key, as specified in {@link YamlResourceBundle#flatten(Object, String)}.
+ * Key prefixes are built in a single shared buffer which is truncated when the walk goes back up, so each
+ * key is copied into a {@link String} only once, when {@link #key()} is called.
+ * <p>Leaves are visited in the same order as the recursive definition, thus writing them into one map in
+ * that order gives the same result, including when a key is overridden by a later one.</p>
+ */
+final class Flattener {
+  private final StringBuilder prefix;
+  private final ArrayDeque<Frame> stack = new ArrayDeque<>();
+  private String value;
+  private Object root;
+  private boolean rootBlank;
+
+  /**
+   * Prepares the walk of the given node
+   *
+   * @param node the root node
+   * @param parent the key of the root node
+   */
+  Flattener(Object node, String parent) {
+    this.prefix = new StringBuilder(parent);
+    this.root = node;
+    this.rootBlank = parent.isBlank();
+  }
+
+  /**
+   * Moves to the next string leaf
+   *
+   * @return false when there are no more leaves
+   */
+  boolean advance() {
+    if (root != null) {
+      var node = root;
+      root = null;
+      if (enter(node, rootBlank)) {
+        return true;
+      }
+    }
+    while (!stack.isEmpty()) {
+      var frame = stack.peek();
+      if (!frame.children.hasNext()) {
+        stack.pop();
+        continue;
+      }
+      prefix.setLength(frame.length);
+      var child = frame.children.next();
+      var blank = frame.blank;
+      if (frame.mapping) {
+        var entry = (Map.Entry<?, ?>) child;
+        var key = entry.getKey().toString();
+        if (!endsWith(key)) {
+          if (!blank) {
+            prefix.append('.');
+          }
+          prefix.append(key);
+          blank = blank && key.isBlank();
+        }
+        child = entry.getValue();
+      }
+      if (enter(child, blank)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * The flattened key of the current leaf
+   *
+   * @return the key
+   */
+  String key() {
+    return prefix.toString();
+  }
+
+  /**
+   * The value of the current leaf
+   *
+   * @return the value
+   */
+  String value() {
+    return value;
+  }
+
+  /**
+   * Visits a node whose key is the current prefix
+   *
+   * @return true if the node is a leaf
+   */
+  private boolean enter(Object node, boolean blank) {
+    if (node instanceof String leaf) {
+      value = leaf;
+      return true;
+    }
+    if (node instanceof Map<?, ?> children) {
+      stack.push(new Frame(children.entrySet().iterator(), true, prefix.length(), blank));
+    } else if (node instanceof Iterable<?> children) {
+      stack.push(new Frame(children.iterator(), false, prefix.length(), blank));
+    }
+    return false;
+  }
+
+  private boolean endsWith(String key) {
+    var offset = prefix.length() - key.length();
+    if (offset < 0) {
+      return false;
+    }
+    for (int i = 0; i < key.length(); i++) {
+      if (prefix.charAt(offset + i) != key.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * A mapping or sequence being walked, with the length and blankness of its key
+   */
+  private record Frame(Iterator<?> children, boolean mapping, int length, boolean blank) {
+  }
+}
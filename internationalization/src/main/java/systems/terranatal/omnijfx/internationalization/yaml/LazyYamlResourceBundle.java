@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization.yaml;
+
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionEndEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+import systems.terranatal.omnijfx.internationalization.ResourceBundle;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A {@link YamlResourceBundle} alternative which parses each top-level subtree only when a key under it is
+ * first looked up. The constructor only runs SnakeYAML's event parser over the file to find where each
+ * top-level key and its value are, which is much cheaper than composing, constructing and flattening the
+ * whole content. Top-level keys with plain string values are stored right away.
+ * <p>Top-level entries are grouped by the segment of their key before the first dot, since only entries of the
+ * same group can flatten onto the same key. A lookup parses every entry of its group, across all documents and in
+ * document order, so later entries override earlier ones exactly like in {@link YamlResourceBundle}, e.g.
+ * {@code messages.formatted.title} loads the {@code messages} subtree along with any top-level
+ * {@code messages.formatted} key that follows it. Lookups are thread-safe, each group is parsed at most once even
+ * when several threads ask for it.</p>
+ * <p>Files with aliases, sequences or non-string keys at the top level cannot be split into independent
+ * subtrees; they are parsed eagerly, as well as the whole file if a subtree fails to parse on its own.
+ * {@link #asMap()}, {@link #freeze()}, {@link #scope(String)} and {@link #keysUnder(String)} parse every
+ * remaining subtree.</p>
+ */
+public class LazyYamlResourceBundle extends ResourceBundle {
+  private final Map<String, Subtree> pending = new ConcurrentHashMap<>();
+  /**
+   * The file contents, released once every subtree is loaded
+   */
+  private volatile String content;
+  /**
+   * Taken for reading by each subtree load and for writing by the fallback that parses the whole content
+   */
+  private final ReadWriteLock fallbackLock = new ReentrantReadWriteLock();
+
+  /**
+   * Scans the YAML content and stores the location of each top-level subtree
+   *
+   * @param reader {@link Reader} to the YAML resource bundle, read fully by this constructor
+   * @param locale used in the superclass
+   * @param charset used in the superclass
+   * @throws IOException if reading the content fails
+   */
+  public LazyYamlResourceBundle(Reader reader, Locale locale, Charset charset) throws IOException {
+    super(new ConcurrentHashMap<>(), locale, charset);
+    var text = readFully(reader);
+    if (scan(text)) {
+      content = pending.isEmpty() ? null : text;
+    } else {
+      pending.clear();
+      loadAll(text);
+    }
+  }
+
+  /**
+   * Retrieves the groups of top-level keys whose subtrees were not parsed yet, each named by the segment of its
+   * keys before the first dot
+   *
+   * @return a read-only view of the groups not loaded yet
+   */
+  public Set<String> unloadedKeys() {
+    return Collections.unmodifiableSet(pending.keySet());
+  }
+
+  /**
+   * Parses the group the key belongs to before looking it up
+   *
+   * @param key the search key
+   * @return an {@link Optional} containing the localized message found for the key
+   * or an empty {@link Optional} if the key is null or no message is found
+   */
+  @Override
+  public Optional<String> optionalString(String key) {
+    if (key != null && !pending.isEmpty()) {
+      load(group(key));
+    }
+    return super.optionalString(key);
+  }
+
+  /**
+   * Parses every subtree not loaded yet and returns all the resources
+   *
+   * @return the resources mapped by their keys
+   */
+  @Override
+  public Map<String, String> asMap() {
+    for (var key : pending.keySet()) {
+      load(key);
+    }
+    return super.asMap();
+  }
+
+  private void load(String group) {
+    var subtree = pending.get(group);
+    if (subtree == null) {
+      return;
+    }
+    var failed = false;
+    fallbackLock.readLock().lock();
+    try {
+      synchronized (subtree) {
+        if (!subtree.loaded) {
+          // the content is only released once every subtree is loaded, which cannot happen under the read lock
+          var text = content;
+          try {
+            var yaml = new Yaml();
+            for (int i = 0; i < subtree.size; i += 2) {
+              Object node = yaml.load(text.substring(subtree.bounds[i], subtree.bounds[i + 1]));
+              YamlResourceBundle.flattenInto(node, "", resources);
+            }
+            subtree.loaded = true;
+          } catch (YAMLException e) {
+            // the subtree depends on the rest of the document, e.g. through tag directives
+            failed = true;
+          }
+        }
+      }
+    } finally {
+      fallbackLock.readLock().unlock();
+    }
+    if (failed) {
+      loadRemaining();
+      return;
+    }
+    pending.remove(group, subtree);
+    if (pending.isEmpty()) {
+      content = null;
+    }
+  }
+
+  /**
+   * Parses the whole content once no subtree is being loaded, unless another thread already did
+   */
+  private void loadRemaining() {
+    fallbackLock.writeLock().lock();
+    try {
+      var text = content;
+      if (text != null) {
+        loadAll(text);
+        pending.values().forEach(other -> other.loaded = true);
+        pending.clear();
+        content = null;
+      }
+    } finally {
+      fallbackLock.writeLock().unlock();
+    }
+  }
+
+  private synchronized void loadAll(String text) {
+    if (text == null) {
+      return;
+    }
+    for (var node : new Yaml().loadAll(text)) {
+      YamlResourceBundle.flattenInto(node, "", resources);
+    }
+  }
+
+  /**
+   * Records the bounds of each top-level entry in {@link #pending}, under the group of its key. Plain string values
+   * are stored right away unless an earlier entry of their group has a subtree, in which case they are recorded
+   * too, so that they are applied after it.
+   *
+   * @param text the whole YAML content
+   * @return false if the content cannot be split into independent subtrees
+   */
+  private boolean scan(String text) {
+    var resolver = new Resolver();
+    var offsets = new CodePointOffsets(text);
+    int depth = 0;
+    String key = null;
+    int keyStart = 0;
+    for (var event : new Yaml().parse(new StringReader(text))) {
+      if (event instanceof AliasEvent) {
+        return false;
+      } else if (event instanceof DocumentStartEvent) {
+        depth = 0;
+        key = null;
+      } else if (event instanceof ScalarEvent scalar) {
+        if (depth == 0) {
+          if (isString(scalar, resolver)) {
+            return false;
+          }
+        } else if (depth == 1 && key == null) {
+          if (!isString(scalar, resolver)) {
+            return false;
+          }
+          key = scalar.getValue();
+          keyStart = offsets.charIndex(scalar.getStartMark().getIndex());
+        } else if (depth == 1) {
+          // once the group has a subtree, later values are parsed with it to keep the document order
+          if (scalar.getTag() != null || pending.containsKey(group(key))) {
+            subtree(group(key)).add(keyStart, offsets.charIndex(scalar.getEndMark().getIndex()));
+          } else if (isString(scalar, resolver)) {
+            resources.put(key, scalar.getValue());
+          }
+          key = null;
+        }
+      } else if (event instanceof CollectionStartEvent) {
+        // the keys flattened under a blank key are not prefixed by it, so they can belong to any group
+        if (depth == 0 && !(event instanceof MappingStartEvent) || depth == 1 && (key == null || key.isBlank())) {
+          return false;
+        }
+        depth++;
+      } else if (event instanceof CollectionEndEvent) {
+        depth--;
+        if (depth == 1 && key != null) {
+          subtree(group(key)).add(keyStart, offsets.charIndex(event.getEndMark().getIndex()));
+          key = null;
+        }
+      }
+    }
+    return true;
+  }
+
+  private Subtree subtree(String group) {
+    return pending.computeIfAbsent(group, k -> new Subtree());
+  }
+
+  /**
+   * Every key flattened from a top-level entry starts with the entry's key, hence with the same segment before the
+   * first dot
+   */
+  private static String group(String key) {
+    var dot = key.indexOf('.');
+    return dot < 0 ? key : key.substring(0, dot);
+  }
+
+  private static boolean isString(ScalarEvent scalar, Resolver resolver) {
+    if (scalar.getTag() != null) {
+      return Tag.STR.getValue().equals(scalar.getTag()) || "!".equals(scalar.getTag());
+    }
+    return !scalar.isPlain() || Tag.STR.equals(resolver.resolve(NodeId.scalar, scalar.getValue(), true));
+  }
+
+  private static String readFully(Reader reader) throws IOException {
+    var builder = new StringBuilder();
+    var buffer = new char[8192];
+    for (int read = reader.read(buffer); read >= 0; read = reader.read(buffer)) {
+      builder.append(buffer, 0, read);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Pairs of {@code [start, end)} char offsets of the top-level entries of the same group, in document order
+   */
+  private static final class Subtree {
+    private int[] bounds = new int[2];
+    private int size;
+    private volatile boolean loaded;
+
+    void add(int start, int end) {
+      if (size == bounds.length) {
+        bounds = Arrays.copyOf(bounds, size * 2);
+      }
+      bounds[size++] = start;
+      bounds[size++] = end;
+    }
+  }
+
+  /**
+   * SnakeYAML marks count code points, this converts them to char offsets in a single forward pass
+   */
+  private static final class CodePointOffsets {
+    private final String text;
+    private final boolean identity;
+    private int codePoint;
+    private int charIndex;
+
+    CodePointOffsets(String text) {
+      this.text = text;
+      this.identity = text.codePoints().allMatch(Character::isBmpCodePoint);
+    }
+
+    int charIndex(int codePointIndex) {
+      if (identity) {
+        return codePointIndex;
+      }
+      if (codePointIndex < codePoint) {
+        codePoint = 0;
+        charIndex = 0;
+      }
+      charIndex = text.offsetByCodePoints(charIndex, codePointIndex - codePoint);
+      codePoint = codePointIndex;
+      return charIndex;
+    }
+  }
+}
@@ -34,50 +34,191 @@ import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.introspector.BeanAccess;
 
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
- * Class that loads YAML resources as a plain-old Java object
+ * Class that loads YAML resources as a plain-old Java object, either through SnakeYAML's reflective
+ * {@link Constructor} or through a {@link YamlBinder} generated at compile time for a class annotated with
+ * {@link YamlBound}, which fills the object from the composed nodes without reflection.
+ * <p>
+ * Instances are thread-safe and keep their {@link Yaml} parsers between loads, so the bean introspection and
+ * the type descriptions are computed once rather than on every call. SnakeYAML's {@link Constructor} keeps
+ * state while it builds a document, so the way concurrent loads are handled depends on how this class is
+ * initialized:
+ * <ul>
+ *   <li>with a {@link Constructor}, or a {@link Supplier} of one, there is a single parser and concurrent loads
+ *   take turns;</li>
+ *   <li>when created by {@link ObjectYamlResourceBundle#pooled(Supplier)}, each thread borrows a parser from a
+ *   pool, creating one with a fresh {@link Constructor} when none is idle, so loads run in parallel;</li>
+ *   <li>with a {@link YamlBinder}, the nodes are composed by a stateless parser and loads run in parallel.</li>
+ * </ul>
  *
  * @param <T> the type of the object to which the file contents will be assigned
  */
 public class ObjectYamlResourceBundle<T> {
   /**
-   * Represents the object on which SnakeYAML will assign the parsed contents.
+   * Creates the {@link Constructor} of each pooled parser, null unless this class was created by
+   * {@link ObjectYamlResourceBundle#pooled(Supplier, int)}
    */
-  private final Constructor constructor;
+  private final Supplier<Constructor> constructors;
+
+  /**
+   * The idle parsers, the most recently used is reused first, null unless {@code constructors} is set
+   */
+  private final BlockingDeque<Yaml> idle;
+
+  /**
+   * The only parser when this class was given a single {@link Constructor}, guarded by {@code lock}
+   */
+  private final Yaml shared;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * Builds the object from the composed nodes when this class is not initialized with a {@link Constructor}
+   */
+  private final YamlBinder<T> binder;
 
   /**
    * The main constructor.
-   * Initializes this class with a {@link Constructor} that describes the target type T of this class
+   * Initializes this class with a {@link Constructor} that describes the target type T of this class.
+   * Since the {@link Constructor} cannot be shared between threads, concurrent loads are serialized, prefer
+   * {@link ObjectYamlResourceBundle#pooled(Supplier)} for loading in parallel.
    *
    * @param constructor the description of the type on which SnakeYAML will load the parsed contents.
    */
   public ObjectYamlResourceBundle(Constructor constructor) {
-    this.constructor = constructor;
+    this.constructors = null;
+    this.idle = null;
+    this.shared = newParser(constructor);
+    this.binder = null;
   }
 
   /**
    * Does the same as the previous constructor but receives a {@link Constructor} {@link Supplier}, this gives
    * the user a convenience for initializing all the configuration and type descriptors in a single place, ie.
-   * the {@link Supplier} block.
+   * the {@link Supplier} block. The supplier is called once, use
+   * {@link ObjectYamlResourceBundle#pooled(Supplier)} to load in parallel.
    *
    * @param constructor a supplier that returns the SnakeYAML {@link Constructor}
    */
   public ObjectYamlResourceBundle(Supplier<Constructor> constructor) {
-    this.constructor = constructor.get();
+    this(constructor.get());
+  }
+
+  private ObjectYamlResourceBundle(Supplier<Constructor> constructors, Yaml first, Yaml second, int maxIdle) {
+    this.constructors = constructors;
+    this.idle = new LinkedBlockingDeque<>(maxIdle);
+    this.shared = null;
+    this.binder = null;
+    idle.offerFirst(first);
+    idle.offerFirst(second);
+  }
+
+  /**
+   * Initializes this class with a binder, usually the one generated for a class annotated with {@link YamlBound},
+   * e.g. {@code new ObjectYamlResourceBundle<>(Messages_YamlBinder.INSTANCE)}
+   *
+   * @param binder builds the object of type {@code T} from the composed YAML nodes
+   */
+  public ObjectYamlResourceBundle(YamlBinder<T> binder) {
+    this.constructors = null;
+    this.idle = null;
+    // composing creates a new parser and composer on every call, so this instance is never mutated
+    this.shared = new Yaml();
+    this.binder = binder;
+  }
+
+  /**
+   * Creates an instance whose concurrent loads run in parallel, each one with a parser borrowed from a pool, and
+   * keeping up to as many idle parsers as there are available processors.
+   *
+   * @param constructors creates the SnakeYAML {@link Constructor} of each parser, it must return a new instance on
+   *                     every call
+   * @param <T> the type of the object to which the file contents will be assigned
+   * @return the new instance
+   * @see ObjectYamlResourceBundle#pooled(Supplier, int)
+   */
+  public static <T> ObjectYamlResourceBundle<T> pooled(Supplier<Constructor> constructors) {
+    return pooled(constructors, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates an instance whose concurrent loads run in parallel, each one with a parser borrowed from a pool. A
+   * parser is created with a new {@link Constructor} whenever none is idle, and parsers returned to a full pool are
+   * dropped. The supplier is called twice right away: since a {@link Constructor} cannot be shared between
+   * parsers, if both calls return the same instance the pool is not used and loads take turns like with
+   * {@link ObjectYamlResourceBundle#ObjectYamlResourceBundle(Constructor)}.
+   *
+   * @param constructors creates the SnakeYAML {@link Constructor} of each parser, it must return a new instance on
+   *                     every call
+   * @param maxIdle the maximum number of parsers kept between loads, at least 1
+   * @param <T> the type of the object to which the file contents will be assigned
+   * @return the new instance
+   */
+  public static <T> ObjectYamlResourceBundle<T> pooled(Supplier<Constructor> constructors, int maxIdle) {
+    if (maxIdle < 1) {
+      throw new IllegalArgumentException("A pool needs room for at least 1 parser, got " + maxIdle);
+    }
+    var first = constructors.get();
+    var second = constructors.get();
+    if (first == second) {
+      return new ObjectYamlResourceBundle<>(first);
+    }
+    return new ObjectYamlResourceBundle<>(constructors, newParser(first), newParser(second), maxIdle);
   }
 
   /**
    * Loads the YAML content into an object of type {@code T}.
-   * This method rethrows all exceptions thrown by SnakeYAML's loader.
+   * This method rethrows all exceptions thrown by SnakeYAML's loader and may be called concurrently.
    *
    * @param reader to the resource file
    * @return the object with the parsed contents
    */
   public T loadObject(Reader reader) {
+    if (binder != null) {
+      return binder.bind(shared.compose(reader));
+    }
+    if (constructors == null) {
+      lock.lock();
+      try {
+        return shared.load(reader);
+      } finally {
+        lock.unlock();
+      }
+    }
+    var yaml = idle.pollFirst();
+    if (yaml == null) {
+      yaml = newParser(constructors.get());
+    }
+    // a parser whose load failed is dropped rather than risk reusing a half-cleared constructor
+    T result = yaml.load(reader);
+    idle.offerFirst(yaml);
+    return result;
+  }
+
+  /**
+   * Loads several YAML resources in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+   * The readers are neither closed nor shared between threads, each one is read by a single load.
+   * If any resource fails to load, one of the exceptions thrown by SnakeYAML is rethrown.
+   *
+   * @param readers to the resource files
+   * @return the objects with the parsed contents, in the iteration order of {@code readers}
+   */
+  public List<T> loadObjects(Iterable<? extends Reader> readers) {
+    var sources = new ArrayList<Reader>();
+    readers.forEach(sources::add);
+    return sources.parallelStream().map(this::loadObject).toList();
+  }
+
+  private static Yaml newParser(Constructor constructor) {
     var yaml = new Yaml(constructor);
     yaml.setBeanAccess(BeanAccess.FIELD);
-    return yaml.load(reader);
+    return yaml;
   }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization.yaml;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose instances can be loaded from YAML by a {@link YamlBinder} generated at compile time by
+ * the {@code omni-internationalization-processor} annotation processor. For a class {@code Messages} the
+ * processor generates {@code Messages_YamlBinder} in the same package, or {@code Outer_Messages_YamlBinder}
+ * if it is nested in {@code Outer}, which can be given to {@link ObjectYamlResourceBundle}.
+ * <p>Each non-static, non-transient field is bound to the YAML key with the same name, directly like SnakeYAML's
+ * {@code BeanAccess.FIELD} does, unless it is private or final, in which case it needs a setter {@code setName}.
+ * The class must have a non-private constructor without parameters. Supported field types are {@link String},
+ * {@code boolean}, {@code int}, {@code long}, {@code double} and their wrappers, enums, other classes annotated
+ * with {@link YamlBound}, and {@link java.util.List}s or {@link java.util.Map}s with {@link String} keys of
+ * any of these types.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface YamlBound {
+  /**
+   * Whether keys that match no field are skipped instead of failing the loading, like SnakeYAML does by default
+   *
+   * @return true to skip unknown keys
+   */
+  boolean ignoreUnknown() default false;
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization.yaml;
+
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Conversions of composed YAML {@link Node}s used by the generated {@link YamlBinder}s. Scalars are converted
+ * following the YAML 1.1 rules applied by SnakeYAML, e.g. {@code yes} and {@code on} are true booleans.
+ */
+public final class YamlNodes {
+  private YamlNodes() {
+  }
+
+  /**
+   * Checks whether the node is a YAML null, such as {@code ~} or an empty value
+   *
+   * @param node the node
+   * @return true if the node is null
+   */
+  public static boolean isNull(Node node) {
+    return node == null || Tag.NULL.equals(node.getTag());
+  }
+
+  /**
+   * Retrieves the entries of a mapping node
+   *
+   * @param node the node
+   * @param type the name of the type being bound, for error messages
+   * @return the key and value nodes
+   * @throws YAMLException if the node is not a mapping
+   */
+  public static List<NodeTuple> entries(Node node, String type) {
+    if (node instanceof MappingNode mapping) {
+      return mapping.getValue();
+    }
+    throw mismatch(node, "a mapping for " + type);
+  }
+
+  /**
+   * Retrieves the key of an entry as a string
+   *
+   * @param entry the entry of a mapping
+   * @return the scalar value of the key
+   * @throws YAMLException if the key is not a scalar
+   */
+  public static String key(NodeTuple entry) {
+    if (entry.getKeyNode() instanceof ScalarNode scalar) {
+      return scalar.getValue();
+    }
+    throw mismatch(entry.getKeyNode(), "a scalar key");
+  }
+
+  /**
+   * Fails the binding because of a key matching no field
+   *
+   * @param entry the entry of a mapping
+   * @param type the name of the type being bound
+   * @throws YAMLException always
+   */
+  public static void unknownKey(NodeTuple entry, String type) {
+    throw new YAMLException("Unable to find property '%s' on %s at %s"
+        .formatted(key(entry), type, entry.getKeyNode().getStartMark()));
+  }
+
+  /**
+   * Converts a scalar node into a string
+   *
+   * @param node the node
+   * @return the value, or null if the node is null
+   * @throws YAMLException if the node is not a scalar
+   */
+  public static String string(Node node) {
+    if (isNull(node)) {
+      return null;
+    }
+    if (node instanceof ScalarNode scalar) {
+      return scalar.getValue();
+    }
+    throw mismatch(node, "a scalar");
+  }
+
+  /**
+   * Converts a non-null scalar with the given function
+   *
+   * @param node the node
+   * @param converter converts the string value, e.g. an enum's {@code valueOf}
+   * @return the converted value, or null if the node is null
+   * @param <T> the type of the converted value
+   * @throws YAMLException if the node is not a scalar or the converter fails
+   */
+  public static <T> T scalar(Node node, Function<String, T> converter) {
+    var value = string(node);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return converter.apply(value);
+    } catch (IllegalArgumentException e) {
+      throw new YAMLException("Invalid value '%s' at %s".formatted(value, node.getStartMark()), e);
+    }
+  }
+
+  /**
+   * Converts a scalar into a boolean
+   *
+   * @param node the node
+   * @return the value, or null if the node is null
+   * @throws YAMLException if the node is not a boolean scalar
+   */
+  public static Boolean toBoolean(Node node) {
+    return scalar(node, value -> switch (value) {
+      case "true", "True", "TRUE", "yes", "Yes", "YES", "on", "On", "ON" -> Boolean.TRUE;
+      case "false", "False", "FALSE", "no", "No", "NO", "off", "Off", "OFF" -> Boolean.FALSE;
+      default -> throw new IllegalArgumentException("Not a boolean: " + value);
+    });
+  }
+
+  /**
+   * Converts a scalar into an integer, in decimal, hexadecimal ({@code 0x}) or octal (leading {@code 0}) notation
+   *
+   * @param node the node
+   * @return the value, or null if the node is null
+   * @throws YAMLException if the node is not an integer scalar
+   */
+  public static Integer toInteger(Node node) {
+    return scalar(node, value -> Integer.decode(value.replace("_", "")));
+  }
+
+  /**
+   * Converts a scalar into a long, in decimal, hexadecimal ({@code 0x}) or octal (leading {@code 0}) notation
+   *
+   * @param node the node
+   * @return the value, or null if the node is null
+   * @throws YAMLException if the node is not an integer scalar
+   */
+  public static Long toLong(Node node) {
+    return scalar(node, value -> Long.decode(value.replace("_", "")));
+  }
+
+  /**
+   * Converts a scalar into a double, including {@code .inf}, {@code -.inf} and {@code .nan}
+   *
+   * @param node the node
+   * @return the value, or null if the node is null
+   * @throws YAMLException if the node is not a numeric scalar
+   */
+  public static Double toDouble(Node node) {
+    return scalar(node, value -> switch (value) {
+      case ".inf", ".Inf", ".INF", "+.inf", "+.Inf", "+.INF" -> Double.POSITIVE_INFINITY;
+      case "-.inf", "-.Inf", "-.INF" -> Double.NEGATIVE_INFINITY;
+      case ".nan", ".NaN", ".NAN" -> Double.NaN;
+      default -> Double.parseDouble(value.replace("_", ""));
+    });
+  }
+
+  /**
+   * Fails if a value bound to a primitive field is null
+   *
+   * @param value the converted value
+   * @param node the node it came from
+   * @return the value
+   * @param <T> the wrapper type
+   * @throws YAMLException if the value is null
+   */
+  public static <T> T required(T value, Node node) {
+    if (value == null) {
+      throw mismatch(node, "a non-null value");
+    }
+    return value;
+  }
+
+  /**
+   * Converts a sequence node into a list
+   *
+   * @param node the node
+   * @param element converts each element
+   * @return a mutable list, or null if the node is null
+   * @param <T> the type of the elements
+   * @throws YAMLException if the node is not a sequence
+   */
+  public static <T> List<T> list(Node node, Function<Node, T> element) {
+    if (isNull(node)) {
+      return null;
+    }
+    if (node instanceof SequenceNode sequence) {
+      var list = new ArrayList<T>(sequence.getValue().size());
+      for (var item : sequence.getValue()) {
+        list.add(element.apply(item));
+      }
+      return list;
+    }
+    throw mismatch(node, "a sequence");
+  }
+
+  /**
+   * Converts a mapping node into a map with string keys
+   *
+   * @param node the node
+   * @param value converts each value
+   * @return a mutable map keeping the order of the entries, or null if the node is null
+   * @param <T> the type of the values
+   * @throws YAMLException if the node is not a mapping
+   */
+  public static <T> Map<String, T> map(Node node, Function<Node, T> value) {
+    if (isNull(node)) {
+      return null;
+    }
+    var map = new LinkedHashMap<String, T>();
+    for (var entry : entries(node, "a map")) {
+      map.put(key(entry), value.apply(entry.getValueNode()));
+    }
+    return map;
+  }
+
+  private static YAMLException mismatch(Node node, String expected) {
+    var found = node == null ? "nothing" : node.getNodeId() + " at " + node.getStartMark();
+    return new YAMLException("Expected %s but found %s".formatted(expected, found));
+  }
+}
@@ -31,13 +31,17 @@
 package systems.terranatal.omnijfx.internationalization.yaml;
 
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
 import systems.terranatal.omnijfx.internationalization.ResourceBundle;
 
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * Loads contents of a YAML file into the {@link Map} in {@link ResourceBundle#resources}.
@@ -60,11 +64,34 @@ import java.util.Map;
  *   {@code keys.level1.key11 -> baz}
  *   {@code keys.key1 -> buz}
  * </pre>
+ * Files with several documents are merged into the same {@link Map}, each document as soon as it is parsed.
+ * A key defined by more than one document is resolved according to the {@link MergePolicy} given to the
+ * constructor, by default the last document wins.
  */
 public class YamlResourceBundle extends ResourceBundle {
+  /**
+   * How a key defined by more than one document of the same file is resolved. Keys repeated within a single
+   * document, e.g. the items of a sequence, always keep the last value as specified in
+   * {@link #flatten(Object, String)}.
+   */
+  public enum MergePolicy {
+    /**
+     * Keeps the value from the first document defining the key
+     */
+    FIRST_WINS,
+    /**
+     * Keeps the value from the last document defining the key
+     */
+    LAST_WINS,
+    /**
+     * Rejects the content with a {@link YAMLException}
+     */
+    FAIL
+  }
+
   /**
    * SnakeYAML emits the parsed content as nested {@link java.util.Collection}s and/or {@link Map}
-   * to make it compatible with our specification, this recursive method will flatten whatever Map it
+   * to make it compatible with our specification, this method will flatten whatever Map it
    * finds until it reaches scalar attributes by doing as follows, according to the actual type of the
    * <b>node</b> parameter:
    * <ul>
@@ -91,39 +118,123 @@ public class YamlResourceBundle extends ResourceBundle {
    */
   protected static Map<String, String> flatten(Object node, String parent) {
     var map = new HashMap<String, String>();
-    if (node instanceof String value) {
-      map.put(parent, value);
-      return map;
+    flattenInto(node, parent, map);
+    return map;
+  }
+
+  /**
+   * Flattens the node as specified in {@link #flatten(Object, String)}, writing each entry directly into the
+   * target map instead of copying intermediate maps at each level. The nodes are walked without recursion,
+   * so the cost is linear in the number of nodes whatever the depth of the content.
+   *
+   * @param node the root node
+   * @param parent key of the root node
+   * @param target the map where the flattened entries are put
+   */
+  protected static void flattenInto(Object node, String parent, Map<String, String> target) {
+    var flattener = new Flattener(node, parent);
+    while (flattener.advance()) {
+      target.put(flattener.key(), flattener.value());
     }
-    if (node instanceof Map<?,?> children) {
-      children.forEach((k, v) -> {
-        if (parent.endsWith(k.toString())) {
-          map.putAll(flatten(v, parent));
-        } else {
-          var dot = !parent.isBlank() ? "." : "";
-          map.putAll(flatten(v, parent + dot + k));
+  }
+
+  /**
+   * Lazily flattens every document of the YAML content, one after the other, into {@code key -> value}
+   * entries as specified in {@link #flatten(Object, String)}. Each document is only parsed when the entries
+   * of the previous one are exhausted, so only one document is held in memory at a time and nothing is
+   * merged, i.e. a key defined by several documents is returned once for each of them.
+   * <p>The reader is not closed by the iterator.</p>
+   *
+   * @param reader {@link Reader} to the YAML content
+   * @return an iterator over the flattened entries in document order
+   */
+  public static Iterator<Map.Entry<String, String>> entries(Reader reader) {
+    var documents = new Yaml().loadAll(reader).iterator();
+    return new Iterator<>() {
+      private Flattener current;
+      private boolean ready;
+
+      @Override
+      public boolean hasNext() {
+        while (!ready) {
+          if (current != null && current.advance()) {
+            ready = true;
+          } else if (documents.hasNext()) {
+            current = new Flattener(documents.next(), "");
+          } else {
+            current = null;
+            return false;
+          }
         }
-      });
-    } else if (node instanceof Iterable<?> it) {
-      it.forEach(el -> map.putAll(flatten(el, parent)));
-    }
-    return map;
+        return true;
+      }
+
+      @Override
+      public Map.Entry<String, String> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        ready = false;
+        return Map.entry(current.key(), current.value());
+      }
+    };
   }
 
   /**
-   * Constructs a {@link YamlResourceBundle} with all the items laid out as a single flat {@link Map}
+   * Constructs a {@link YamlResourceBundle} with all the items laid out as a single flat {@link Map}, the
+   * keys defined by several documents take the value from the last one
    *
    * @param reader {@link Reader} to the YAML resource bundle
    * @param locale used in the superclass
    * @param charset used in the superclass
    */
   public YamlResourceBundle(Reader reader, Locale locale, Charset charset) {
+    this(reader, locale, charset, MergePolicy.LAST_WINS);
+  }
+
+  /**
+   * Constructs a {@link YamlResourceBundle} with all the items laid out as a single flat {@link Map}, merging
+   * each document as soon as it is parsed
+   *
+   * @param reader {@link Reader} to the YAML resource bundle
+   * @param locale used in the superclass
+   * @param charset used in the superclass
+   * @param policy how keys defined by several documents are resolved
+   * @throws YAMLException if the content is malformed, or if a key is defined by several documents and
+   * the policy is {@link MergePolicy#FAIL}
+   */
+  public YamlResourceBundle(Reader reader, Locale locale, Charset charset, MergePolicy policy) {
     super(new HashMap<>(), locale, charset);
 
     var yml = new Yaml();
-    var it = yml.loadAll(reader);
-    for (var node: it) {
-      resources.putAll(flatten(node, ""));
+    int document = 0;
+    for (var node: yml.loadAll(reader)) {
+      if (document++ == 0 || policy == MergePolicy.LAST_WINS) {
+        flattenInto(node, "", resources);
+      } else {
+        merge(node, document, policy);
+      }
+    }
+  }
+
+  /**
+   * Merges a document after the first one, only the keys not seen in the same document are subject to
+   * the policy
+   */
+  private void merge(Object node, int document, MergePolicy policy) {
+    var defined = new HashSet<String>();
+    var flattener = new Flattener(node, "");
+    while (flattener.advance()) {
+      var key = flattener.key();
+      if (defined.contains(key)) {
+        resources.put(key, flattener.value());
+      } else if (!resources.containsKey(key)) {
+        resources.put(key, flattener.value());
+        defined.add(key);
+      } else if (policy == MergePolicy.FAIL) {
+        throw new YAMLException("The key '" + key + "' of document " + document
+            + " is already defined by a previous document");
+      }
     }
   }
 }
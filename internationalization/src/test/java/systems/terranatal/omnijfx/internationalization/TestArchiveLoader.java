@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import systems.terranatal.omnijfx.internationalization.binary.BinaryResourceBundle;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class TestArchiveLoader {
+  private static final Locale PT_BR = Locale.of("pt", "BR");
+  private static final List<String> ENTRIES = List.of("bundle.en_US.properties", "fallback/messages.properties",
+      "fallback/messages_pt.properties", "fallback/messages_pt_BR.properties", "binary/messages.ojfb");
+  private static final Locale SR_LATN_RS_REVISED = new Locale.Builder().setLanguage("sr").setScript("Latn")
+      .setRegion("RS").setVariant("REVISED").build();
+  /**
+   * Files whose names only resemble a bundle's, or that have a script or variant in their locale
+   */
+  private static final List<String> EXTRA_ENTRIES = List.of("fallback/messages-old.properties",
+      "fallback/messages_extra.properties", "fallback/messages_old.properties", "fallback/messages_backup.properties",
+      "fallback/messages_copy.properties", "fallback/messages_EN.properties", "fallback/messages_zh_Hant_TW.properties",
+      "fallback/messages_sr_Latn_RS_REVISED.properties", "fallback/messages_no_NO_NY.properties",
+      "i18n/c++_en.properties", "i18n/c++ tools_en.properties");
+
+  /**
+   * Packs some of the test resources, plus the {@link #EXTRA_ENTRIES}, into a ZIP file
+   */
+  private static Path pack(Path dir) throws IOException {
+    var archive = dir.resolve("bundles.zip");
+    var classLoader = TestArchiveLoader.class.getClassLoader();
+    try (var out = new ZipOutputStream(Files.newOutputStream(archive))) {
+      for (var name : ENTRIES) {
+        try (var in = classLoader.getResourceAsStream(name)) {
+          Assertions.assertNotNull(in, name);
+          out.putNextEntry(new ZipEntry(name));
+          in.transferTo(out);
+        }
+      }
+      for (var name : EXTRA_ENTRIES) {
+        out.putNextEntry(new ZipEntry(name));
+        out.write("greetings.hello=Hi!".getBytes(StandardCharsets.UTF_8));
+      }
+    }
+    return archive;
+  }
+
+  @Test
+  public void testIndex(@TempDir Path dir) throws IOException {
+    try (var archive = new Loader.Archive(pack(dir))) {
+      Assertions.assertEquals(ENTRIES.size() + EXTRA_ENTRIES.size(), archive.entryNames().size());
+      Assertions.assertTrue(archive.contains("fallback/messages_pt.properties"));
+      Assertions.assertTrue(archive.contains("/fallback/messages_pt.properties"));
+      Assertions.assertFalse(archive.contains("fallback/messages_de.properties"));
+      Assertions.assertEquals(Set.of(Locale.ROOT, Locale.of("pt"), PT_BR, Locale.forLanguageTag("zh-Hant-TW"),
+          SR_LATN_RS_REVISED, Locale.of("no", "NO", "NY")), archive.locales("fallback/messages", ".properties"));
+      Assertions.assertEquals(Set.of(), archive.locales("fallback/none", ".properties"));
+    }
+  }
+
+  @Test
+  public void testScriptsAndVariants(@TempDir Path dir) throws IOException {
+    try (var archive = new Loader.Archive(pack(dir))) {
+      var locales = archive.locales("fallback/messages", ".properties");
+
+      Assertions.assertTrue(locales.contains(SR_LATN_RS_REVISED), locales.toString());
+      Assertions.assertEquals("Latn", locales.stream().filter(locale -> locale.getLanguage().equals("sr"))
+          .findFirst().orElseThrow().getScript());
+      Assertions.assertTrue(locales.stream().noneMatch(locale -> Set.of("extra", "old", "backup", "copy")
+          .contains(locale.getLanguage())), locales.toString());
+      for (var locale : locales) {
+        Assertions.assertTrue(archive.contains(FallbackResourceBundle.fileName("fallback/messages", locale,
+            ".properties")), locale.toString());
+      }
+    }
+  }
+
+  @Test
+  public void testLoadsByLocale(@TempDir Path dir) throws IOException {
+    try (var archive = new Loader.Archive(pack(dir));
+         var reader = archive.loadResource("fallback/messages", PT_BR, ".properties", StandardCharsets.UTF_8)) {
+      var bundle = new ResourceBundle.PropertyResourceBundle(reader, PT_BR, StandardCharsets.UTF_8);
+      Assertions.assertEquals("Tchau!", bundle.stringFor("greetings.goodbye"));
+    }
+  }
+
+  @Test
+  public void testFallbackChain(@TempDir Path dir) throws IOException {
+    try (var archive = new Loader.Archive(pack(dir))) {
+      var bundle = FallbackResourceBundle.load("fallback/messages", ".properties", PT_BR,
+          StandardCharsets.UTF_8, archive, BundleFactory.PROPERTIES);
+
+      Assertions.assertEquals(List.of(PT_BR, Locale.of("pt"), Locale.ROOT), bundle.getLayers());
+      Assertions.assertEquals("Tchau!", bundle.stringFor("greetings.goodbye"));
+      Assertions.assertEquals("Ol\u00E1!", bundle.stringFor("greetings.hello"));
+      Assertions.assertEquals("OmniJFx", bundle.stringFor("app.name"));
+    }
+  }
+
+  @Test
+  public void testBuffers(@TempDir Path dir) throws IOException {
+    try (var archive = new Loader.Archive(pack(dir));
+         var in = getClass().getClassLoader().getResourceAsStream("binary/messages.ojfb")) {
+      var expected = new BinaryResourceBundle(in, Locale.ROOT);
+      var buffer = archive.loadBuffer("binary/messages.ojfb");
+
+      Assertions.assertTrue(buffer.isReadOnly());
+      Assertions.assertEquals(expected.asMap(), new BinaryResourceBundle(buffer, Locale.ROOT).asMap());
+    }
+  }
+
+  @Test
+  public void testUrls(@TempDir Path dir) throws IOException {
+    var path = pack(dir);
+    try (var archive = new Loader.Archive(path)) {
+      var url = new URL("jar:" + path.toUri() + "!/bundle.en_US.properties");
+      try (var reader = archive.loadResource(url, StandardCharsets.UTF_8)) {
+        var bundle = new ResourceBundle.PropertyResourceBundle(reader, Locale.US, StandardCharsets.UTF_8);
+        Assertions.assertEquals("Hello World!", bundle.stringFor("app_1.hello"));
+      }
+      Assertions.assertEquals(archive.loadBuffer("bundle.en_US.properties"), archive.loadBuffer(url));
+
+      // '+' is a plain character in URL paths, unlike in form data
+      var plus = new URL("jar:" + path.toUri() + "!/i18n/c++_en.properties");
+      Assertions.assertEquals(archive.loadBuffer("i18n/c++_en.properties"), archive.loadBuffer(plus));
+      var escaped = new URL("jar:" + path.toUri() + "!/i18n/c%2B%2B%20tools_en.properties");
+      Assertions.assertEquals(archive.loadBuffer("i18n/c++ tools_en.properties"), archive.loadBuffer(escaped));
+
+      var elsewhere = new URL("jar:" + dir.resolve("other.zip").toUri() + "!/bundle.en_US.properties");
+      Assertions.assertThrows(ResourceLoadingException.class, () -> archive.loadBuffer(elsewhere));
+    }
+  }
+
+  @Test
+  public void testMissingEntries(@TempDir Path dir) throws IOException {
+    var path = pack(dir);
+    try (var archive = new Loader.Archive(path)) {
+      var error = Assertions.assertThrows(ResourceLoadingException.class,
+          () -> archive.loadResource("fallback/messages_de.properties", StandardCharsets.UTF_8));
+      Assertions.assertEquals("the archive " + path.toAbsolutePath(), error.source);
+      Assertions.assertThrows(ResourceLoadingException.class, () -> archive.loadBuffer("missing.ojfb"));
+    }
+    Assertions.assertThrows(ResourceLoadingException.class, () -> new Loader.Archive(dir.resolve("missing.zip")));
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestAsyncBundleLoader {
+  private static final Loader LOADER = new Loader.Classpath(TestAsyncBundleLoader.class.getClassLoader());
+  private static final AsyncBundleLoader.BundleRequest PT_BR =
+      new AsyncBundleLoader.BundleRequest("fallback/messages", Locale.of("pt", "BR"));
+  private static final AsyncBundleLoader.BundleRequest PT =
+      new AsyncBundleLoader.BundleRequest("fallback/messages", Locale.of("pt"));
+  private static final AsyncBundleLoader.BundleRequest ROOT =
+      new AsyncBundleLoader.BundleRequest("fallback/messages", Locale.ROOT);
+
+  @Test
+  public void testLoadAll() {
+    var registry = BundleRegistry.bounded(10);
+    try (var loader = new AsyncBundleLoader(LOADER, ".properties", StandardCharsets.UTF_8,
+        BundleFactory.PROPERTIES, 2, registry)) {
+      var bundles = loader.loadAll(List.of(PT_BR, PT, ROOT, PT)).join();
+
+      Assertions.assertEquals(List.of(PT_BR, PT, ROOT), List.copyOf(bundles.keySet()));
+      Assertions.assertEquals("Tchau!", bundles.get(PT_BR).stringFor("greetings.goodbye"));
+      Assertions.assertEquals(Locale.of("pt"), bundles.get(PT).getLocale());
+      Assertions.assertEquals("OmniJFx", bundles.get(ROOT).stringFor("app.name"));
+      Assertions.assertEquals(3, registry.size());
+      Assertions.assertSame(bundles.get(PT), loader.loadAsync(PT).join());
+    }
+  }
+
+  @Test
+  public void testFailuresAreReportedTogether() {
+    var missing = new AsyncBundleLoader.BundleRequest("fallback/missing", Locale.US);
+    var alsoMissing = new AsyncBundleLoader.BundleRequest("fallback/messages", Locale.JAPAN);
+    try (var loader = new AsyncBundleLoader(LOADER, ".properties", StandardCharsets.UTF_8,
+        BundleFactory.PROPERTIES, 4)) {
+      var futures = loader.loadAsync(List.of(PT_BR, missing, alsoMissing));
+      Assertions.assertEquals("Tchau!", futures.get(PT_BR).join().stringFor("greetings.goodbye"));
+
+      var error = Assertions.assertThrows(CompletionException.class,
+          () -> loader.loadAll(List.of(PT_BR, missing, alsoMissing)).join());
+      var failures = Assertions.assertInstanceOf(AsyncBundleLoader.BundleLoadingException.class, error.getCause());
+
+      Assertions.assertEquals(List.of(missing, alsoMissing), List.copyOf(failures.getFailures().keySet()));
+      Assertions.assertInstanceOf(ResourceLoadingException.class, failures.getFailures().get(missing));
+      Assertions.assertEquals(2, failures.getSuppressed().length);
+    }
+  }
+
+  @Test
+  public void testConcurrencyIsLimited() {
+    var running = new AtomicInteger();
+    var maximum = new AtomicInteger();
+    BundleFactory slowFactory = (reader, locale, charset) -> {
+      maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      running.decrementAndGet();
+      return BundleFactory.PROPERTIES.create(reader, locale, charset);
+    };
+    var requests = Locale.availableLocales().limit(30)
+        .map(locale -> new AsyncBundleLoader.BundleRequest("bundle", locale))
+        .toList();
+    Loader anyLocale = new Loader.Classpath(TestAsyncBundleLoader.class.getClassLoader()) {
+      @Override
+      public Reader loadResource(String fileName, Charset charset) {
+        return super.loadResource("bundle.en_US.properties", charset);
+      }
+    };
+
+    try (var loader = new AsyncBundleLoader(anyLocale, ".properties", StandardCharsets.UTF_8, slowFactory, 3)) {
+      var bundles = loader.loadAll(requests).join();
+
+      Assertions.assertEquals(requests.size(), bundles.size());
+      Assertions.assertTrue(maximum.get() <= 3, "at most 3 bundles should be parsed at once");
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestBundleRegistry {
+  private static final Loader LOADER = new Loader.Classpath(TestBundleRegistry.class.getClassLoader());
+
+  @Test
+  public void testConcurrentRequestsLoadOnce() throws Exception {
+    var registry = BundleRegistry.bounded(10);
+    var loads = new AtomicInteger();
+    var start = new CountDownLatch(1);
+    BundleFactory slowFactory = (reader, locale, charset) -> {
+      loads.incrementAndGet();
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return BundleFactory.PROPERTIES.create(reader, locale, charset);
+    };
+
+    var tasks = new ArrayList<Callable<ResourceBundle>>();
+    for (int i = 0; i < 32; i++) {
+      tasks.add(() -> {
+        start.await();
+        return registry.get("bundle.en_US.properties", Locale.US, StandardCharsets.UTF_8,
+            new Loader.Classpath(TestBundleRegistry.class.getClassLoader()), slowFactory);
+      });
+    }
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var results = tasks.stream().map(executor::submit).toList();
+      start.countDown();
+      var first = results.get(0).get();
+      for (var result : results) {
+        Assertions.assertSame(first, result.get());
+      }
+      Assertions.assertEquals("Hello World!", first.stringFor("app_1.hello"));
+    }
+
+    Assertions.assertEquals(1, loads.get());
+    Assertions.assertEquals(1, registry.missCount());
+    Assertions.assertEquals(31, registry.hitCount());
+  }
+
+  @Test
+  public void testEvictionBySize() {
+    var registry = BundleRegistry.bounded(1);
+    var english = registry.get("bundle.en_US.properties", Locale.US, StandardCharsets.UTF_8, LOADER,
+        BundleFactory.PROPERTIES);
+    registry.get("bundle.pt_PT.properties", Locale.of("pt", "PT"), StandardCharsets.UTF_8, LOADER,
+        BundleFactory.PROPERTIES);
+
+    Assertions.assertEquals(1, registry.size());
+    Assertions.assertEquals(1, registry.evictionCount());
+    Assertions.assertNotSame(english, registry.get("bundle.en_US.properties", Locale.US, StandardCharsets.UTF_8,
+        LOADER, BundleFactory.PROPERTIES));
+    Assertions.assertEquals(3, registry.missCount());
+  }
+
+  @Test
+  public void testInvalidatedBundlesLoseTheirPosition() {
+    var registry = BundleRegistry.bounded(2);
+    var first = new BundleRegistry.Key("bundle.en_US.properties", Locale.US, StandardCharsets.UTF_8, LOADER);
+    var second = new BundleRegistry.Key("bundle.en_US.properties", Locale.UK, StandardCharsets.UTF_8, LOADER);
+    var third = new BundleRegistry.Key("bundle.en_US.properties", Locale.CANADA, StandardCharsets.UTF_8, LOADER);
+
+    var reloaded = registry.get(first, BundleFactory.PROPERTIES);
+    registry.get(second, BundleFactory.PROPERTIES);
+    for (int i = 0; i < 100; i++) {
+      registry.invalidate(first);
+      reloaded = registry.get(first, BundleFactory.PROPERTIES);
+    }
+    registry.get(third, BundleFactory.PROPERTIES);
+    var misses = registry.missCount();
+
+    Assertions.assertEquals(2, registry.size());
+    Assertions.assertEquals(1, registry.evictionCount());
+    // the second bundle is the oldest one, the first was inserted again by its last reload
+    Assertions.assertSame(reloaded, registry.get(first, BundleFactory.PROPERTIES));
+    Assertions.assertEquals(misses, registry.missCount());
+  }
+
+  @Test
+  public void testFailuresAreNotCached() {
+    var registry = BundleRegistry.softValues();
+    var key = new BundleRegistry.Key("missing.properties", Locale.US, StandardCharsets.UTF_8, LOADER);
+
+    Assertions.assertThrows(ResourceLoadingException.class, () -> registry.get(key, BundleFactory.PROPERTIES));
+    Assertions.assertThrows(ResourceLoadingException.class, () -> registry.get(key, BundleFactory.PROPERTIES));
+    Assertions.assertEquals(2, registry.missCount());
+    Assertions.assertEquals(0, registry.size());
+  }
+}
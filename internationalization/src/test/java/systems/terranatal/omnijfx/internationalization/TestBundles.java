@@ -5,13 +5,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.io.IOException;
 import java.io.Reader;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Locale;
 import java.util.Properties;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestBundles {
@@ -52,4 +61,108 @@ public class TestBundles {
     }
   }
 
+  @ParameterizedTest
+  @ArgumentsSource(BundleTestArgsProvider.class)
+  public void testMappedFiles(String filePath, Locale locale, String expectedLanguageValue,
+                              String expectedHelloValue) {
+    var charset = filePath.startsWith("UTF-16/") ? StandardCharsets.UTF_16BE : StandardCharsets.UTF_8;
+    var url = Thread.currentThread().getContextClassLoader().getResource(filePath);
+
+    try (var reader = new Loader.MappedFile().loadResource(url, charset)) {
+      var bundle = new ResourceBundle.PropertyResourceBundle(reader, locale, charset);
+      assertEquals(expectedLanguageValue, bundle.stringFor("app_1.language"));
+      assertEquals(expectedHelloValue, bundle.stringFor("app_1.hello"));
+    } catch (Exception e) {
+      Assertions.fail(e);
+    }
+  }
+
+  @Test
+  public void testMappedFileNotFound() {
+    Assertions.assertThrows(ResourceLoadingException.class,
+        () -> new Loader.MappedFile().loadBuffer("does/not/exist.properties"));
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(BundleTestArgsProvider.class)
+  public void testJarResources(String filePath, Locale locale, String expectedLanguageValue,
+                               String expectedHelloValue) throws IOException {
+    var charset = filePath.startsWith("UTF-16/") ? StandardCharsets.UTF_16BE : StandardCharsets.UTF_8;
+    var jar = Files.createTempFile("bundles", ".jar");
+    try (var in = Thread.currentThread().getContextClassLoader().getResourceAsStream(filePath);
+         var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new JarEntry(filePath));
+      in.transferTo(out);
+    }
+
+    try (var classLoader = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null)) {
+      var loader = new Loader.Classpath(classLoader);
+      for (var reader : new Reader[] {loader.loadResource(filePath, charset),
+          loader.loadResource(classLoader.getResource(filePath), charset)}) {
+        try (reader) {
+          var bundle = new ResourceBundle.PropertyResourceBundle(reader, locale, charset);
+          assertEquals(expectedLanguageValue, bundle.stringFor("app_1.language"));
+          assertEquals(expectedHelloValue, bundle.stringFor("app_1.hello"));
+        }
+      }
+    } finally {
+      assertFalse(isOpen(jar), jar + " is still open");
+      Files.deleteIfExists(jar);
+    }
+  }
+
+  /**
+   * Checks whether the process has a file descriptor for the file, always false where /proc is not available
+   */
+  private static boolean isOpen(Path file) throws IOException {
+    var descriptors = Path.of("/proc/self/fd");
+    if (!Files.isDirectory(descriptors)) {
+      return false;
+    }
+    var target = file.toRealPath();
+    try (var links = Files.list(descriptors)) {
+      return links.anyMatch(link -> {
+        try {
+          return Files.readSymbolicLink(link).equals(target);
+        } catch (IOException | UnsupportedOperationException e) {
+          return false;
+        }
+      });
+    }
+  }
+
+  @Test
+  public void testByteOrderMarks() throws IOException {
+    var text = "app_1.hello = \u041F\u0440\u0438\u0432\u0456\u0442\n";
+    var file = Files.createTempFile("bom", ".properties");
+    try {
+      for (var encoding : new Charset[] {StandardCharsets.UTF_16BE, StandardCharsets.UTF_16LE, StandardCharsets.UTF_8}) {
+        // String.getBytes does not write a BOM for these charsets, so it is added by hand
+        Files.write(file, ("\uFEFF" + text).getBytes(encoding));
+        var charsets = encoding == StandardCharsets.UTF_8
+            ? new Charset[] {StandardCharsets.UTF_8}
+            : new Charset[] {StandardCharsets.UTF_16, StandardCharsets.UTF_16BE, StandardCharsets.UTF_16LE};
+        for (var charset : charsets) {
+          for (var loader : new Loader[] {new Loader.LocalFile(), new Loader.MappedFile()}) {
+            try (var reader = loader.loadResource(file.toString(), charset)) {
+              var content = new StringWriter();
+              reader.transferTo(content);
+              assertEquals(text, content.toString(), encoding + " read as " + charset);
+            }
+          }
+        }
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testResourceNotFound() {
+    Assertions.assertThrows(ResourceLoadingException.class,
+        () -> retrieveResource("does/not/exist.properties", StandardCharsets.UTF_8));
+    Assertions.assertThrows(ResourceLoadingException.class,
+        () -> new Loader.LocalFile().loadResource(Path.of("does/not/exist.properties").toString(),
+            StandardCharsets.UTF_8));
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public class TestCompactStringMap {
+
+  @Test
+  public void testSameMappingsAsSource() {
+    var source = new HashMap<String, String>();
+    for (int i = 0; i < 5_000; i++) {
+      source.put("key." + i, "value " + i);
+    }
+    var compact = new CompactStringMap(source);
+
+    Assertions.assertEquals(source, compact);
+    Assertions.assertEquals(source.hashCode(), compact.hashCode());
+    Assertions.assertEquals("value 42", compact.get(new String("key.42")));
+    Assertions.assertNull(compact.get("key.5000"));
+    Assertions.assertFalse(compact.containsKey(42));
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> compact.put("key.0", "changed"));
+  }
+
+  @Test
+  public void testEmptyMap() {
+    var compact = new CompactStringMap(Map.of());
+
+    Assertions.assertTrue(compact.isEmpty());
+    Assertions.assertNull(compact.get("any"));
+  }
+
+  @Test
+  public void testFrozenBundle() {
+    try (var reader = TestBundles.retrieveResource("bundle.en_US.properties", StandardCharsets.UTF_8)) {
+      var bundle = BundleFactory.PROPERTIES.create(reader, Locale.US, StandardCharsets.UTF_8);
+      var frozen = bundle.freeze();
+
+      Assertions.assertInstanceOf(ResourceBundle.FrozenResourceBundle.class, frozen);
+      Assertions.assertSame(frozen, frozen.freeze());
+      Assertions.assertEquals(bundle.getLocale(), frozen.getLocale());
+      Assertions.assertEquals("Hello World!", frozen.stringFor("app_1.hello"));
+      Assertions.assertEquals(Optional.empty(), frozen.optionalString("app_1.missing"));
+    } catch (Exception e) {
+      Assertions.fail(e);
+    }
+  }
+}
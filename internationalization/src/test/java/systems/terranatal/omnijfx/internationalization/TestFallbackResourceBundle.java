@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+public class TestFallbackResourceBundle {
+  private static final Loader LOADER = new Loader.Classpath(TestFallbackResourceBundle.class.getClassLoader());
+  private static final Locale PT_BR = Locale.of("pt", "BR");
+
+  @Test
+  public void testChainIsMerged() {
+    var bundle = FallbackResourceBundle.load("fallback/messages", ".properties", PT_BR,
+        StandardCharsets.UTF_8, LOADER, BundleFactory.PROPERTIES);
+
+    Assertions.assertEquals(List.of(PT_BR, Locale.of("pt"), Locale.ROOT), bundle.getLayers());
+    Assertions.assertEquals(PT_BR, bundle.getLocale());
+    Assertions.assertEquals("Tchau!", bundle.stringFor("greetings.goodbye"));
+    Assertions.assertEquals("Ol\u00E1!", bundle.stringFor("greetings.hello"));
+    Assertions.assertEquals("OmniJFx", bundle.stringFor("app.name"));
+  }
+
+  @Test
+  public void testSourcesAreRecorded() {
+    var registry = BundleRegistry.bounded(10);
+    var bundle = FallbackResourceBundle.load("fallback/messages", ".properties", PT_BR,
+        StandardCharsets.UTF_8, LOADER, BundleFactory.PROPERTIES, registry);
+
+    Assertions.assertEquals(Optional.of(PT_BR), bundle.sourceOf("greetings.goodbye"));
+    Assertions.assertEquals(Optional.of(Locale.of("pt")), bundle.sourceOf("greetings.hello"));
+    Assertions.assertEquals(Optional.of(Locale.ROOT), bundle.sourceOf("app.name"));
+    Assertions.assertEquals(Optional.empty(), bundle.sourceOf("app.version"));
+    Assertions.assertEquals(Set.of("greetings.hello", "app.name"), bundle.missingTranslations());
+    Assertions.assertEquals(3, registry.size());
+  }
+
+  @Test
+  public void testMissingLayersAreSkipped() {
+    var bundle = FallbackResourceBundle.load("fallback/messages", ".properties", Locale.GERMANY,
+        StandardCharsets.UTF_8, LOADER, BundleFactory.PROPERTIES);
+
+    Assertions.assertEquals(List.of(Locale.ROOT), bundle.getLayers());
+    Assertions.assertEquals(Locale.GERMANY, bundle.getLocale());
+    Assertions.assertEquals(Set.of("greetings.hello", "greetings.goodbye", "app.name"), bundle.missingTranslations());
+    Assertions.assertEquals(Optional.of(Locale.ROOT), bundle.sourceOf("app.name"));
+    var e = Assertions.assertThrows(ResourceNotFoundException.class, () -> FallbackResourceBundle.load(
+        "fallback/none", ".properties", Locale.GERMANY, StandardCharsets.UTF_8, LOADER, BundleFactory.PROPERTIES));
+    Assertions.assertEquals("fallback/none_de_DE.properties", e.resourceName);
+    Assertions.assertEquals("the classpath", e.source);
+    Assertions.assertTrue(e.getMessage().contains(
+        "fallback/none_de_DE.properties, fallback/none_de.properties, fallback/none.properties"), e.getMessage());
+  }
+
+  @Test
+  public void testReadFailuresAreThrown() {
+    var failing = new Loader() {
+      @Override
+      public Reader loadResource(String fileName, Charset charset) {
+        if (fileName.endsWith("_pt.properties")) {
+          throw ResourceLoadingException.fromClasspath(fileName, new IOException("Access denied"));
+        }
+        return LOADER.loadResource(fileName, charset);
+      }
+
+      @Override
+      public Reader loadResource(URL fileName, Charset charset) {
+        return LOADER.loadResource(fileName, charset);
+      }
+    };
+
+    var e = Assertions.assertThrows(ResourceLoadingException.class, () -> FallbackResourceBundle.load(
+        "fallback/messages", ".properties", PT_BR, StandardCharsets.UTF_8, failing, BundleFactory.PROPERTIES));
+    Assertions.assertEquals("fallback/messages_pt.properties", e.resourceName);
+    Assertions.assertFalse(e instanceof ResourceNotFoundException);
+
+    // without an exists check, the missing files are still recognized by their exception
+    var bundle = FallbackResourceBundle.load("fallback/messages", ".properties", Locale.GERMANY,
+        StandardCharsets.UTF_8, failing, BundleFactory.PROPERTIES);
+    Assertions.assertEquals(List.of(Locale.ROOT), bundle.getLayers());
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import systems.terranatal.omnijfx.internationalization.yaml.LazyYamlResourceBundle;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+public class TestFlightRecorderEvents {
+  private static final Loader LOADER = new Loader.Classpath(TestFlightRecorderEvents.class.getClassLoader());
+
+  private static List<RecordedEvent> record(Runnable action) throws IOException {
+    var file = Files.createTempFile("omnijfx", ".jfr");
+    try (var recording = new Recording()) {
+      for (var name : List.of("omnijfx.BundleLoad", "omnijfx.Lookup", "omnijfx.LookupMiss",
+          "omnijfx.ResourceLoadingFailure")) {
+        recording.enable(name).withoutThreshold();
+      }
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+    return events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+  }
+
+  @Test
+  public void testBundleLoadEvent() throws IOException {
+    var events = record(() -> BundleFactory.PROPERTIES.load(LOADER, "bundle.en_US.properties", Locale.US,
+        StandardCharsets.UTF_8));
+
+    var loads = ofType(events, "omnijfx.BundleLoad");
+    Assertions.assertEquals(1, loads.size());
+    var load = loads.get(0);
+    Assertions.assertEquals("bundle.en_US.properties", load.getString("resource"));
+    Assertions.assertEquals(Loader.Classpath.class.getName(), load.getClass("loaderType").getName());
+    Assertions.assertEquals(ResourceBundle.PropertyResourceBundle.class.getName(),
+        load.getClass("bundleType").getName());
+    Assertions.assertEquals("en-US", load.getString("locale"));
+    Assertions.assertTrue(load.getLong("characters") > 0);
+    Assertions.assertTrue(load.getInt("keyCount") > 0);
+  }
+
+  @Test
+  public void testBundleLoadEventKeepsLazyBundlesLazy() throws IOException {
+    var bundles = new ArrayList<LazyYamlResourceBundle>();
+    var events = record(() -> bundles.add((LazyYamlResourceBundle) ((BundleFactory) LazyYamlResourceBundle::new)
+        .load(LOADER, "sv_SE.yaml", Locale.of("sv", "SE"), StandardCharsets.UTF_8)));
+
+    var loads = ofType(events, "omnijfx.BundleLoad");
+    Assertions.assertEquals(1, loads.size());
+    Assertions.assertFalse(bundles.get(0).unloadedKeys().isEmpty());
+    Assertions.assertTrue(loads.get(0).getInt("keyCount") < bundles.get(0).asMap().size());
+  }
+
+  @Test
+  public void testLookupEvents() throws IOException {
+    var bundle = BundleFactory.PROPERTIES.load(LOADER, "bundle.en_US.properties", Locale.US,
+        StandardCharsets.UTF_8);
+    var lookups = 100 * LookupEvent.SAMPLE_RATE;
+
+    var events = record(() -> {
+      for (int i = 0; i < lookups; i++) {
+        bundle.stringFor("app_1.hello");
+      }
+      Assertions.assertThrows(NoSuchElementException.class, () -> bundle.stringFor("missing.key"));
+    });
+
+    var misses = ofType(events, "omnijfx.LookupMiss");
+    Assertions.assertEquals(1, misses.size());
+    Assertions.assertEquals("missing.key", misses.get(0).getString("key"));
+    Assertions.assertNotNull(misses.get(0).getStackTrace());
+
+    // about 100 samples are expected, the bounds only guard against sampling every or no lookup
+    var hits = ofType(events, "omnijfx.Lookup");
+    Assertions.assertTrue(hits.size() > 10 && hits.size() < 1000, "sampled " + hits.size());
+    Assertions.assertEquals("app_1.hello", hits.get(0).getString("key"));
+    Assertions.assertEquals(LookupEvent.SAMPLE_RATE, hits.get(0).getInt("sampleRate"));
+  }
+
+  @Test
+  public void testSampleRate() {
+    Assertions.assertEquals(1, LookupEvent.sampleRate(1));
+    Assertions.assertEquals(1, LookupEvent.sampleRate(0));
+    Assertions.assertEquals(1, LookupEvent.sampleRate(-8));
+    Assertions.assertEquals(2, LookupEvent.sampleRate(2));
+    Assertions.assertEquals(4, LookupEvent.sampleRate(3));
+    Assertions.assertEquals(1024, LookupEvent.sampleRate(1024));
+    Assertions.assertEquals(2048, LookupEvent.sampleRate(1025));
+    Assertions.assertEquals(1 << 30, LookupEvent.sampleRate(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void testResourceLoadingFailureEvent() throws IOException {
+    var events = record(() -> Assertions.assertThrows(ResourceLoadingException.class,
+        () -> BundleFactory.PROPERTIES.load(LOADER, "missing.properties", Locale.US, StandardCharsets.UTF_8)));
+
+    var failures = ofType(events, "omnijfx.ResourceLoadingFailure");
+    Assertions.assertEquals(1, failures.size());
+    Assertions.assertEquals("missing.properties", failures.get(0).getString("resource"));
+    Assertions.assertEquals("the classpath", failures.get(0).getString("source"));
+  }
+
+  @Test
+  public void testExceptionsNotThrownAreNotFailures() throws IOException {
+    var events = record(() -> {
+      ResourceLoadingException.fromClasspath("created.properties", new IOException("Never thrown"));
+      new ResourceNotFoundException("created.properties", "the classpath");
+    });
+
+    Assertions.assertTrue(ofType(events, "omnijfx.ResourceLoadingFailure").isEmpty());
+  }
+
+  @Test
+  public void testFallbackMissesAreNotFailures() throws IOException {
+    // a loader that cannot tell in advance whether a file exists
+    var probing = new Loader() {
+      @Override
+      public Reader loadResource(String fileName, Charset charset) {
+        if (!LOADER.exists(fileName)) {
+          throw new ResourceNotFoundException(fileName, "the test classpath");
+        }
+        return LOADER.loadResource(fileName, charset);
+      }
+
+      @Override
+      public Reader loadResource(URL fileName, Charset charset) {
+        return LOADER.loadResource(fileName, charset);
+      }
+    };
+
+    var events = record(() -> {
+      for (var loader : List.of(LOADER, probing)) {
+        FallbackResourceBundle.load("fallback/messages", ".properties", Locale.of("pt", "BR"), StandardCharsets.UTF_8,
+            loader, BundleFactory.PROPERTIES);
+        FallbackResourceBundle.load("fallback/messages", ".properties", Locale.GERMANY, StandardCharsets.UTF_8,
+            loader, BundleFactory.PROPERTIES);
+      }
+      Assertions.assertThrows(ResourceNotFoundException.class, () -> FallbackResourceBundle.load("fallback/none",
+          ".properties", Locale.GERMANY, StandardCharsets.UTF_8, probing, BundleFactory.PROPERTIES));
+    });
+
+    var failures = ofType(events, "omnijfx.ResourceLoadingFailure");
+    Assertions.assertEquals(1, failures.size());
+    Assertions.assertEquals("fallback/none_de_DE.properties", failures.get(0).getString("resource"));
+  }
+}
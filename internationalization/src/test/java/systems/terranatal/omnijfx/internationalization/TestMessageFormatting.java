@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import systems.terranatal.omnijfx.internationalization.yaml.YamlResourceBundle;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TestMessageFormatting {
+  private static final Locale PT_BR = Locale.of("pt", "BR");
+  private static final String UNITS = "messages.formatted.unitsRemaining";
+  private static final Locale RU_RU = Locale.of("ru", "RU");
+  private static final String PLURAL_UNITS = "messages.unitsRemaining";
+
+  private static ResourceBundle formattedBundle() {
+    try (var reader = TestBundles.retrieveResource("pt_BR.formatted.yaml", StandardCharsets.UTF_8)) {
+      return new YamlResourceBundle(reader, PT_BR, StandardCharsets.UTF_8);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 10, 12345})
+  public void testSameAsMessageFormat(int units) {
+    var bundle = formattedBundle();
+    var expected = new MessageFormat(bundle.stringFor(UNITS), PT_BR).format(new Object[]{units});
+
+    Assertions.assertEquals(expected, bundle.format(UNITS, units));
+    Assertions.assertEquals(expected, bundle.format(UNITS, new Object[]{units}));
+  }
+
+  @Test
+  public void testArities() {
+    var bundle = new ResourceBundle(Map.of("message", "{0}|{1}|{2}|{3}"), Locale.US, StandardCharsets.UTF_8) { };
+
+    Assertions.assertEquals("{0}|{1}|{2}|{3}", bundle.format("message"));
+    Assertions.assertEquals("a|{1}|{2}|{3}", bundle.format("message", "a"));
+    Assertions.assertEquals("a|b|{2}|{3}", bundle.format("message", "a", "b"));
+    Assertions.assertEquals("a|b|1,000|{3}", bundle.format("message", "a", "b", 1000));
+    Assertions.assertEquals("a|b|c|d", bundle.format("message", "a", "b", "c", "d"));
+    // arguments of an earlier call must not leak into the next one
+    Assertions.assertEquals("x|{1}|{2}|{3}", bundle.format("message", "x"));
+  }
+
+  @Test
+  public void testErrors() {
+    var bundle = new ResourceBundle(Map.of("invalid", "{0"), Locale.US, StandardCharsets.UTF_8) { };
+
+    Assertions.assertThrows(NoSuchElementException.class, () -> bundle.format("missing", 1));
+    Assertions.assertThrows(NoSuchElementException.class, () -> bundle.format(null));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> bundle.format("invalid", 1));
+  }
+
+  @Test
+  public void testConcurrentFormatting() throws Exception {
+    var bundle = formattedBundle();
+    var pattern = bundle.stringFor(UNITS);
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var futures = new ArrayList<Future<Void>>();
+      for (int t = 0; t < 8; t++) {
+        var offset = t;
+        Callable<Void> task = () -> {
+          var reference = new MessageFormat(pattern, PT_BR);
+          for (int i = 0; i < 2_000; i++) {
+            var units = i * 8 + offset;
+            Assertions.assertEquals(reference.format(new Object[]{units}), bundle.format(UNITS, units));
+          }
+          return null;
+        };
+        futures.add(executor.submit(task));
+      }
+      for (var future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static ResourceBundle pluralBundle() {
+    try (var reader = TestBundles.retrieveResource("ru_RU.plural.yaml", StandardCharsets.UTF_8)) {
+      return new YamlResourceBundle(reader, RU_RU, StandardCharsets.UTF_8);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 10, 12345})
+  public void testPluralSameAsChoiceFormat(int units) {
+    var choices = formattedBundle();
+    var variants = new ResourceBundle(Map.of(
+        "units.zero", "Voc\u00EA tem nenhuma unidade mais.",
+        "units.one", "Voc\u00EA tem uma unidade restante.",
+        "units.other", "Voc\u00EA tem {0,number,integer} unidades restantes."), PT_BR, StandardCharsets.UTF_8) { };
+
+    Assertions.assertEquals(choices.format(UNITS, units), variants.plural("units", units));
+  }
+
+  @Test
+  public void testPluralVariants() {
+    var bundle = pluralBundle();
+    var expected = Map.of(0L, "zero", 1L, "one", 3L, "few", 5L, "many", 11L, "many", 21L, "one", 12345L, "many");
+
+    expected.forEach((count, variant) -> Assertions.assertEquals(
+        bundle.format(PLURAL_UNITS + "." + variant, count), bundle.plural(PLURAL_UNITS, count), "" + count));
+    Assertions.assertEquals(bundle.format(PLURAL_UNITS + ".other", new BigDecimal("1.5")),
+        bundle.plural(PLURAL_UNITS, new BigDecimal("1.5")));
+    Assertions.assertEquals(bundle.format(PLURAL_UNITS + ".zero", BigDecimal.ZERO),
+        bundle.plural(PLURAL_UNITS, new BigDecimal("0.00")));
+    Assertions.assertEquals(bundle.format(PLURAL_UNITS + ".few", 2),
+        bundle.scope("messages").plural("unitsRemaining", 2));
+  }
+
+  @Test
+  public void testPluralFallback() {
+    var bundle = new ResourceBundle(Map.of("items.other", "{0} items", "ranked.one", "{0} item"),
+        Locale.US, StandardCharsets.UTF_8) { };
+
+    Assertions.assertEquals("1 items", bundle.plural("items", 1));
+    Assertions.assertEquals("0 items", bundle.plural("items", 0));
+    Assertions.assertEquals("1 item", bundle.plural("ranked", 1));
+    Assertions.assertThrows(NoSuchElementException.class, () -> bundle.plural("ranked", 2));
+    Assertions.assertThrows(NoSuchElementException.class, () -> bundle.plural("missing", 1));
+    Assertions.assertThrows(NoSuchElementException.class, () -> bundle.plural(null, 1));
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TestNumberFormatProvider {
+
+  @Test
+  public void testConcurrentParsing() throws Exception {
+    var provider = NumberFormatProvider.forLocale(Locale.GERMANY);
+    var tasks = new ArrayList<Callable<Boolean>>();
+    for (int i = 0; i < 2_000; i++) {
+      var value = i * 1_000 + 0.25;
+      tasks.add(() -> provider.parse(provider.format(value)).doubleValue() == value);
+    }
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (Future<Boolean> result : executor.invokeAll(tasks)) {
+        Assertions.assertTrue(result.get());
+      }
+    }
+  }
+
+  @Test
+  public void testLeaseIsReturnedOnClose() {
+    var provider = new NumberFormatProvider(NumberFormat.getIntegerInstance(Locale.US));
+    NumberFormat borrowed;
+    try (var lease = provider.borrow()) {
+      borrowed = lease.format();
+      Assertions.assertEquals(1234L, NumericParsingUtils.parseUnchecked(borrowed, "1,234"));
+      lease.close();
+      Assertions.assertThrows(IllegalStateException.class, lease::format);
+    }
+    Assertions.assertSame(borrowed, provider.apply(format -> format));
+  }
+
+  @Test
+  public void testProvidersAreSharedPerLocale() {
+    Assertions.assertSame(NumberFormatProvider.forLocale(Locale.US), NumberFormatProvider.forLocale(Locale.US));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+public class TestNumericColumnParser {
+
+  @Test
+  public void testFailuresAreReported() {
+    var column = Arrays.asList("1.234,5", null, "12,3.4", "-7", "1,5E2");
+    var target = new double[column.size()];
+
+    var failures = NumericColumnParser.parseDoubles(column, Locale.GERMANY, target);
+
+    Assertions.assertEquals(BitSet.valueOf(new long[] { 0b110 }), failures);
+    Assertions.assertArrayEquals(new double[] { 1234.5, Double.NaN, Double.NaN, -7, 150 }, target);
+  }
+
+  @Test
+  public void testLargeColumnsAreSplit() {
+    var size = 100_003;
+    var column = IntStream.range(0, size)
+        .mapToObj(i -> i % 7 == 0 ? i + ",5" : String.format(Locale.US, "%,d", i))
+        .toArray(String[]::new);
+    var target = new long[size];
+
+    var failures = NumericColumnParser.parseLongs(column, Locale.US, target);
+
+    for (int i = 0; i < size; i++) {
+      Assertions.assertEquals(i % 7 == 0, failures.get(i));
+      Assertions.assertEquals(i % 7 == 0 ? 0 : i, target[i]);
+    }
+  }
+
+  @Test
+  public void testSequentialListsAndShortTargets() {
+    List<String> column = new LinkedList<>(List.of("1", "2", "x"));
+
+    Assertions.assertEquals(BitSet.valueOf(new long[] { 0b100 }),
+        NumericColumnParser.parseLongs(column, Locale.US, new long[3]));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> NumericColumnParser.parseLongs(column, Locale.US, new long[2]));
+  }
+}
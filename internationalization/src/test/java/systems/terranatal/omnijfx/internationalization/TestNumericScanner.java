@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+public class TestNumericScanner {
+
+  /**
+   * The regular expression {@link NumericParsingUtils#isParseable(String, Locale)} used before
+   * {@link NumericScanner} was introduced, kept as the reference implementation.
+   */
+  private static boolean isParseableByRegex(String text, Locale locale) {
+    var symbols = DecimalFormatSymbols.getInstance(locale);
+    var separator = Character.toString(symbols.getDecimalSeparator());
+    var grouping = Character.toString(symbols.getGroupingSeparator());
+    final var scientific = "%s([Ee]%s)?";
+
+    if (!text.contains(grouping)) {
+      var localizedRational = "[\\+\\-]?\\d+(\\%s\\d+)?".formatted(separator);
+      return text.matches(scientific.formatted(localizedRational, localizedRational));
+    }
+    var gsize = ((DecimalFormat) DecimalFormat.getInstance(locale)).getGroupingSize();
+    var rationalWithGrouping = "[\\+\\-]?\\d{1,%d}(\\%s\\d{%d})*(\\%s\\d+)?"
+        .formatted(gsize, grouping, gsize, separator);
+    return text.matches(scientific.formatted(rationalWithGrouping, rationalWithGrouping));
+  }
+
+  static Stream<Arguments> samples() {
+    var locales = Stream.of(Locale.US, Locale.GERMANY, Locale.FRANCE, Locale.CHINA, Locale.of("pt", "BR"),
+        Locale.of("de", "CH"), Locale.of("hi", "IN"));
+    return locales.flatMap(locale -> {
+      var symbols = DecimalFormatSymbols.getInstance(locale);
+      var d = symbols.getDecimalSeparator();
+      var g = symbols.getGroupingSeparator();
+      return Stream.of("0", "-12", "+12", "1" + d + "5", "1" + d, d + "5", "12" + g + "345", "1" + g + "2",
+              "1234" + g + "567", "123" + g + "456" + g + "789" + d + "01", "12E5", "12e-5", "12E", "1E2E3",
+              "1" + d + "5E-3" + d + "14", "1" + g + "000E1" + g + "000", "12 345", "12_345", "", "-", "٣")
+          .map(text -> Arguments.of(locale, text));
+    });
+  }
+
+  @ParameterizedTest
+  @MethodSource("samples")
+  public void testSameResultAsRegex(Locale locale, String text) {
+    Assertions.assertEquals(isParseableByRegex(text, locale), NumericScanner.of(locale).isParseable(text),
+        () -> "'%s' in %s".formatted(text, locale));
+  }
+
+  @Test
+  public void testScannersAreCached() {
+    var scanner = NumericScanner.of(Locale.GERMANY);
+
+    Assertions.assertSame(scanner, NumericScanner.of(Locale.GERMANY));
+    Assertions.assertEquals(',', scanner.getDecimalSeparator());
+    Assertions.assertEquals('.', scanner.getGroupingSeparator());
+    Assertions.assertEquals(3, scanner.getGroupingSize());
+  }
+}
@@ -31,12 +31,16 @@
 package systems.terranatal.omnijfx.internationalization;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.CsvSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
@@ -66,6 +70,70 @@ public class TestParsingUtils {
     Assertions.assertEquals(expectedParseability, isParseable);
   }
 
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "1,234,567.89|.|1234567.89",
+      "1.234.567,89|,|1234567,89",
+      "12 345_678'9|,|123456789",
+      "1234|.|1234"
+  })
+  public void testStripGroupingSymbols(String text, String decimalSeparator, String expected) throws IOException {
+    Assertions.assertEquals(expected, NumericParsingUtils.stripGroupingSymbols(text, decimalSeparator));
+
+    var builder = new StringBuilder("> ");
+    NumericParsingUtils.stripGroupingSymbols(text, decimalSeparator.charAt(0), builder);
+    Assertions.assertEquals("> " + expected, builder.toString());
+
+    var writer = new StringWriter();
+    NumericParsingUtils.stripGroupingSymbols(text, decimalSeparator.charAt(0), (Appendable) writer);
+    Assertions.assertEquals(expected, writer.toString());
+  }
+
+  @Test
+  public void testStripGroupingSymbolsReturnsSameInstance() {
+    var text = "1234567";
+    Assertions.assertSame(text, NumericParsingUtils.stripGroupingSymbols(text, "."));
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "en-US|1,234,567.89|1234567.89",
+      "de-DE|-1.234.567,89|-1234567.89",
+      "en-US|1.5E3|1500",
+      "de-DE|2,5e-2|0.025",
+      "en-US|123456789012345678901234567890|1.2345678901234568E29",
+      "en-US|12,34|NaN",
+      "en-US|abc|NaN"
+  })
+  public void testParseDouble(String languageTag, String text, double expected) {
+    var locale = Locale.forLanguageTag(languageTag);
+    Assertions.assertEquals(expected, NumericParsingUtils.parseDouble(text, locale));
+
+    var target = new double[] { -1 };
+    Assertions.assertEquals(!Double.isNaN(expected), NumericParsingUtils.tryParseDouble(text, locale, target, 0));
+    Assertions.assertEquals(Double.isNaN(expected) ? -1 : expected, target[0]);
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "en-US|1,234,567|true|1234567",
+      "de-DE|-1.234.567,000|true|-1234567",
+      "en-US|1.5E3|true|1500",
+      "en-US|-9,223,372,036,854,775,808|true|-9223372036854775808",
+      "en-US|9,223,372,036,854,775,808|false|0",
+      "en-US|1.5|false|0",
+      "en-US|1E2.5|false|0",
+      "en-US|0E7|true|0"
+  })
+  public void testParseLong(String languageTag, String text, boolean parseable, long expected) {
+    var locale = Locale.forLanguageTag(languageTag);
+    Assertions.assertEquals(parseable ? expected : -1, NumericParsingUtils.parseLong(text, locale, -1));
+
+    var target = new long[] { -1 };
+    Assertions.assertEquals(parseable, NumericParsingUtils.tryParseLong(text, locale, target, 0));
+    Assertions.assertEquals(parseable ? expected : -1, target[0]);
+  }
+
   public static class ParsingStringsProvider implements ArgumentsProvider {
 
     @Override
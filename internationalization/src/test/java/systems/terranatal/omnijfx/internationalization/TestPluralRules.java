@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Locale;
+
+public class TestPluralRules {
+
+  @ParameterizedTest
+  @CsvSource({
+      "en, 1, ONE", "en, 0, OTHER", "en, 2, OTHER", "en, 21, OTHER", "en, -1, ONE", "en, 1.0, OTHER",
+      "fr, 0, ONE", "fr, 1, ONE", "fr, 1.5, ONE", "fr, 2, OTHER", "fr, 1000000, MANY", "fr, 2000000.0, OTHER",
+      "pt, 0, ONE", "pt, 1, ONE", "pt, 2, OTHER", "pt-PT, 0, OTHER", "pt-PT, 1, ONE", "pt-BR, 1.5, ONE",
+      "es, 1, ONE", "es, 1.0, ONE", "es, 2, OTHER", "es, 1000000, MANY",
+      "ru, 1, ONE", "ru, 21, ONE", "ru, 101, ONE", "ru, 2, FEW", "ru, 4, FEW", "ru, 22, FEW",
+      "ru, 0, MANY", "ru, 5, MANY", "ru, 11, MANY", "ru, 14, MANY", "ru, 111, MANY", "ru, 1.5, OTHER",
+      "uk, 3, FEW", "uk, 12, MANY",
+      "pl, 1, ONE", "pl, 2, FEW", "pl, 22, FEW", "pl, 0, MANY", "pl, 12, MANY", "pl, 21, MANY", "pl, 1.5, OTHER",
+      "cs, 1, ONE", "cs, 3, FEW", "cs, 5, OTHER", "cs, 1.5, MANY",
+      "ar, 0, ZERO", "ar, 1, ONE", "ar, 2, TWO", "ar, 3, FEW", "ar, 103, FEW", "ar, 11, MANY", "ar, 99, MANY",
+      "ar, 100, OTHER", "ar, 102, OTHER",
+      "lv, 0, ZERO", "lv, 11, ZERO", "lv, 1, ONE", "lv, 21, ONE", "lv, 2, OTHER", "lv, 0.1, ONE",
+      "lt, 1, ONE", "lt, 2, FEW", "lt, 10, OTHER", "lt, 11, OTHER", "lt, 0.5, MANY",
+      "sl, 1, ONE", "sl, 101, ONE", "sl, 2, TWO", "sl, 3, FEW", "sl, 0.5, FEW", "sl, 5, OTHER",
+      "he, 1, ONE", "he, 0.5, ONE", "he, 2, TWO", "he, 3, OTHER",
+      "da, 1, ONE", "da, 0.1, ONE", "da, 0, OTHER", "da, 2, OTHER",
+      "hr, 21, ONE", "hr, 0.1, ONE", "hr, 2, FEW", "hr, 0.2, FEW", "hr, 5, OTHER",
+      "ro, 1, ONE", "ro, 0, FEW", "ro, 119, FEW", "ro, 20, OTHER",
+      "ja, 1, OTHER", "und, 1, OTHER"
+  })
+  public void testSelect(String tag, String number, String category) {
+    var rules = PluralRules.forLocale(Locale.forLanguageTag(tag));
+    var expected = PluralCategory.valueOf(category);
+
+    Assertions.assertEquals(expected, rules.select(new BigDecimal(number)), tag + " " + number);
+    if (number.indexOf('.') < 0) {
+      Assertions.assertEquals(expected, rules.select(Long.parseLong(number)), tag + " " + number);
+    }
+  }
+
+  @Test
+  public void testLargeNumbers() {
+    var russian = PluralRules.forLocale(Locale.of("ru"));
+    var english = PluralRules.forLocale(Locale.ENGLISH);
+
+    Assertions.assertEquals(PluralCategory.MANY, russian.select(Long.MAX_VALUE));
+    Assertions.assertEquals(PluralCategory.MANY, russian.select(Long.MIN_VALUE));
+    Assertions.assertEquals(PluralCategory.ONE, russian.select(new BigDecimal("1000000000000000000001")));
+    Assertions.assertEquals(PluralCategory.OTHER, english.select(new BigDecimal("1000000000000000000001")));
+    Assertions.assertEquals(PluralCategory.OTHER, english.select(new BigDecimal("1E+2")));
+    Assertions.assertEquals(PluralCategory.MANY,
+        PluralRules.forLocale(Locale.FRENCH).select(new BigDecimal("3E+6")));
+  }
+
+  @Test
+  public void testRulesAreShared() {
+    var russian = PluralRules.forLocale(Locale.of("ru"));
+
+    Assertions.assertSame(russian, PluralRules.forLocale(Locale.of("ru", "RU")));
+    Assertions.assertSame(russian, PluralRules.forLocale(Locale.of("ru", "UA")));
+    Assertions.assertSame(PluralRules.forLocale(Locale.of("pt")), PluralRules.forLocale(Locale.of("pt", "BR")));
+    Assertions.assertNotSame(PluralRules.forLocale(Locale.of("pt")), PluralRules.forLocale(Locale.of("pt", "PT")));
+    Assertions.assertSame(PluralRules.forLocale(Locale.ROOT), PluralRules.forLocale(null));
+    Assertions.assertSame(PluralRules.forLocale(Locale.JAPANESE), PluralRules.forLocale(Locale.CHINESE));
+  }
+
+  @Test
+  public void testCategories() {
+    Assertions.assertEquals(EnumSet.of(PluralCategory.ONE, PluralCategory.OTHER),
+        PluralRules.forLocale(Locale.US).categories());
+    Assertions.assertEquals(EnumSet.of(PluralCategory.ONE, PluralCategory.FEW, PluralCategory.MANY,
+        PluralCategory.OTHER), PluralRules.forLocale(Locale.of("ru")).categories());
+    Assertions.assertEquals(EnumSet.allOf(PluralCategory.class), PluralRules.forLocale(Locale.of("ar")).categories());
+    Assertions.assertEquals(EnumSet.of(PluralCategory.OTHER), PluralRules.forLocale(Locale.JAPAN).categories());
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+public class TestPropertiesParser {
+  private static final String KEY_PATTERN = "^[a-z]\\w*(\\.[a-z]\\w*)*";
+
+  /**
+   * What {@link ResourceBundle.PropertyResourceBundle} used to produce, by loading {@link Properties} and filtering
+   * its keys with a regular expression
+   */
+  private static Map<String, String> expected(String text) throws IOException {
+    var properties = new Properties();
+    properties.load(new StringReader(text));
+    var expected = new HashMap<String, String>();
+    properties.forEach((key, value) -> {
+      if (key.toString().matches(KEY_PATTERN)) {
+        expected.put(key.toString(), value.toString());
+      }
+    });
+    return expected;
+  }
+
+  private static Map<String, String> parsed(String text) throws IOException {
+    var parsed = new HashMap<String, String>();
+    new PropertiesParser(new StringReader(text)).parse(parsed, PropertiesParser::isResourceKey);
+    return parsed;
+  }
+
+  @Test
+  public void testSyntax() throws IOException {
+    var samples = List.of(
+        "a=1\nb = 2\nc:3\nd 4\ne\t=\t5\nf\f6",
+        "# comment\n! other comment\n  a = indented\n\n\r\nb=after blank lines",
+        "a = first \\\n    continued \\\r\n\tagain\r\nb = 2",
+        "a = ends with continuation \\",
+        "a = escaped backslash \\\\\nb = 2",
+        "a\\=b = 1\nc\\:d = 2\ne\\ f = 3\nk\\u0065y = \\u00e9t\\u00E9",
+        "a = tab\\tnew\\nline\\rfeed\\f and \\q",
+        "a = 1\na = 2",
+        "a==1\nb::2\nc =: 3\nd",
+        "#comment \\\nb = not a continuation",
+        "a = 1 \\\n# not a comment",
+        "Upper = 1\n_under = 2\na.b.c = 3\na..b = 4\na. = 5\n.a = 6\na-b = 7\na.B1_c.d = 8",
+        "a = \\\n\n b = 2");
+    for (var sample : samples) {
+      Assertions.assertEquals(expected(sample), parsed(sample), sample);
+    }
+  }
+
+  @Test
+  public void testMalformedEscapes() {
+    for (var sample : List.of("a = \\u12", "a = \\uZZZZ", "\\u00 = 1", "Rejected = \\u12G4")) {
+      Assertions.assertThrows(IllegalArgumentException.class, () -> expected(sample));
+      Assertions.assertThrows(IllegalArgumentException.class, () -> parsed(sample), sample);
+    }
+  }
+
+  @Test
+  public void testRandomContent() throws IOException {
+    String[] tokens = {"a", "z", "A", "_", "1", ".", "=", ":", " ", "\t", "\f", "\\", "\\\\", "\n", "\r", "\r\n",
+        "#", "!", "\\u0061", "\\u00e9", "\\n", "key", "\u00E9", "\\\n", "\\\r\n"};
+    var random = new Random(7);
+    for (int i = 0; i < 20_000; i++) {
+      var text = new StringBuilder();
+      for (int j = random.nextInt(30); j > 0; j--) {
+        text.append(tokens[random.nextInt(tokens.length)]);
+      }
+      Assertions.assertEquals(expected(text.toString()), parsed(text.toString()), text.toString());
+    }
+  }
+
+  @Test
+  public void testResourceKeys() {
+    for (var key : List.of("a", "a.b", "a1_B.c", "A", "a.", "a..b", ".a", "", "a-b", "\u00E9", "a.B", "a b")) {
+      Assertions.assertEquals(key.matches(KEY_PATTERN), PropertiesParser.isResourceKey(key), key);
+    }
+  }
+}
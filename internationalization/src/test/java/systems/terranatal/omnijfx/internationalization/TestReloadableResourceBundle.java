@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import systems.terranatal.omnijfx.internationalization.yaml.YamlResourceBundle;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class TestReloadableResourceBundle {
+
+  @Test
+  public void testReloadPublishesChangedKeys(@TempDir Path dir) throws IOException {
+    var specific = Files.writeString(dir.resolve("messages_pt.properties"), "app.hello=Ola\napp.bye=Tchau\n");
+    var fallback = Files.writeString(dir.resolve("messages.properties"), "app.hello=Hello\napp.title=Title\n");
+    var bundle = new ReloadableResourceBundle(List.of(specific, fallback), Locale.of("pt"), StandardCharsets.UTF_8,
+        BundleFactory.PROPERTIES);
+    var changes = new LinkedBlockingQueue<Set<String>>();
+    bundle.addListener((source, keys) -> changes.add(keys));
+
+    Assertions.assertEquals(Map.of("app.hello", "Ola", "app.bye", "Tchau", "app.title", "Title"), bundle.asMap());
+    var before = bundle.snapshot();
+
+    Files.writeString(specific, "app.hello=Oi\napp.bye=Tchau\napp.new=Novo\n");
+    Assertions.assertTrue(bundle.reload(specific));
+
+    Assertions.assertEquals(Set.of("app.hello", "app.new"), changes.poll());
+    Assertions.assertEquals("Oi", bundle.stringFor("app.hello"));
+    Assertions.assertEquals("Title", bundle.stringFor("app.title"));
+    Assertions.assertEquals("Ola", before.stringFor("app.hello"));
+
+    Files.writeString(fallback, "app.hello=Hello\n");
+    bundle.reload(fallback);
+    Assertions.assertEquals(Set.of("app.title"), changes.poll());
+    Assertions.assertFalse(bundle.optionalString("app.title").isPresent());
+
+    Assertions.assertFalse(bundle.reload(dir.resolve("other.properties")));
+    Assertions.assertTrue(changes.isEmpty());
+  }
+
+  @Test
+  public void testFailedReloadKeepsSnapshot(@TempDir Path dir) throws IOException {
+    var file = Files.writeString(dir.resolve("messages.yaml"), "app:\n  hello: Hello\n");
+    var bundle = new ReloadableResourceBundle(file, Locale.ENGLISH, StandardCharsets.UTF_8, YamlResourceBundle::new);
+    var failures = new LinkedBlockingQueue<Path>();
+    bundle.addListener(new ReloadableResourceBundle.Listener() {
+      @Override
+      public void bundleChanged(ReloadableResourceBundle bundle, Set<String> changedKeys) {
+        Assertions.fail("No key should change");
+      }
+
+      @Override
+      public void reloadFailed(ReloadableResourceBundle bundle, Path file, RuntimeException cause) {
+        failures.add(file);
+      }
+    });
+
+    Files.writeString(file, "app: [\n");
+    bundle.reload(file);
+
+    Assertions.assertEquals(file.toAbsolutePath().normalize(), failures.poll());
+    Assertions.assertEquals("Hello", bundle.stringFor("app.hello"));
+  }
+
+  @Test
+  public void testWatcherReloadsChangedFile(@TempDir Path dir) throws Exception {
+    var file = Files.writeString(dir.resolve("messages.yaml"), "app:\n  hello: Hello\n");
+    var bundle = new ReloadableResourceBundle(file, Locale.ENGLISH, StandardCharsets.UTF_8, YamlResourceBundle::new);
+    var changes = new LinkedBlockingQueue<Set<String>>();
+    bundle.addListener((source, keys) -> changes.add(keys));
+
+    try (var watcher = new BundleWatcher(Duration.ofMillis(100))) {
+      watcher.watch(bundle);
+      for (int i = 0; i < 3; i++) {
+        Files.writeString(file, "app:\n  hello: Hello %d\n".formatted(i));
+      }
+
+      // some platforms poll the file system, hence the long timeout
+      Assertions.assertEquals(Set.of("app.hello"), changes.poll(30, TimeUnit.SECONDS));
+      Assertions.assertEquals("Hello 2", bundle.stringFor("app.hello"));
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import systems.terranatal.omnijfx.internationalization.yaml.YamlResourceBundle;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class TestScopedResourceBundle {
+
+  private static ResourceBundle bundle() {
+    var resources = Map.of(
+        "messages", "Messages",
+        "messages.raw.hello", "Hello",
+        "messages.formatted.units", "{0} units",
+        "messages.formatted.total", "Total: {0}",
+        "messagesExtra.title", "Extra",
+        "errors.notFound", "Not found");
+    return new ResourceBundle(resources, Locale.US, StandardCharsets.UTF_8) { };
+  }
+
+  @Test
+  public void testKeysUnder() {
+    var bundle = bundle();
+
+    Assertions.assertEquals(Set.of("messages", "messages.raw.hello", "messages.formatted.units",
+        "messages.formatted.total"), new HashSet<>(bundle.keysUnder("messages")));
+    Assertions.assertEquals(Set.of("messages.formatted.units", "messages.formatted.total"),
+        new HashSet<>(bundle.keysUnder("messages.formatted")));
+    Assertions.assertEquals(Set.of("errors.notFound"), new HashSet<>(bundle.keysUnder("errors.notFound")));
+    Assertions.assertTrue(bundle.keysUnder("messages.missing").isEmpty());
+    Assertions.assertTrue(bundle.keysUnder("mess").isEmpty());
+  }
+
+  @Test
+  public void testScope() {
+    var bundle = bundle();
+    var formatted = bundle.scope("messages.formatted");
+
+    Assertions.assertInstanceOf(ResourceBundle.ScopedResourceBundle.class, formatted);
+    Assertions.assertEquals("messages.formatted", ((ResourceBundle.ScopedResourceBundle) formatted).getPrefix());
+    Assertions.assertEquals(Locale.US, formatted.getLocale());
+    Assertions.assertEquals("{0} units", formatted.stringFor("units"));
+    Assertions.assertEquals(Map.of("units", "{0} units", "total", "Total: {0}"), formatted.asMap());
+    Assertions.assertEquals(Optional.empty(), formatted.optionalString("messages.formatted.units"));
+
+    var messages = bundle.scope("messages");
+    Assertions.assertEquals(Optional.empty(), messages.optionalString(""));
+    Assertions.assertEquals("Hello", messages.stringFor("raw.hello"));
+    Assertions.assertEquals(formatted.asMap(), messages.scope("formatted").asMap());
+    Assertions.assertSame(formatted, bundle.scope("messages.formatted"));
+    Assertions.assertSame(formatted, messages.scope("formatted"));
+
+    Assertions.assertTrue(bundle.scope("missing").asMap().isEmpty());
+    Assertions.assertSame(bundle, bundle.scope(""));
+  }
+
+  @Test
+  public void testScopeOfYamlBundle() {
+    try (var reader = TestBundles.retrieveResource("sv_SE.yaml", StandardCharsets.UTF_8)) {
+      var greetings = new YamlResourceBundle(reader, Locale.of("sv", "SE"), StandardCharsets.UTF_8)
+          .scope("application.greetings");
+
+      Assertions.assertEquals("God morgon", greetings.stringFor("goodMorning"));
+      Assertions.assertEquals(5, greetings.asMap().size());
+    } catch (Exception e) {
+      Assertions.fail(e);
+    }
+  }
+}
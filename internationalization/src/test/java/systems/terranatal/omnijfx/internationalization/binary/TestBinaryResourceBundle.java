@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization.binary;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import systems.terranatal.omnijfx.internationalization.Loader;
+import systems.terranatal.omnijfx.internationalization.yaml.YamlResourceBundle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public class TestBinaryResourceBundle {
+
+  @Test
+  public void testCompiledTestBundles() throws IOException {
+    var classloader = getClass().getClassLoader();
+    try (var en = classloader.getResourceAsStream("binary/messages.ojfb");
+         var pt = classloader.getResourceAsStream("binary/messages_pt.ojfb")) {
+      Assertions.assertNotNull(en);
+      Assertions.assertNotNull(pt);
+      var english = new BinaryResourceBundle(en, Locale.ENGLISH);
+      var portuguese = new BinaryResourceBundle(pt, Locale.of("pt"));
+
+      Assertions.assertEquals("Binary bundles", english.stringFor("application.title"));
+      Assertions.assertEquals("Goodbye!", english.stringFor("application.greetings.goodbye"));
+      Assertions.assertEquals("Pacotes bin\u00E1rios", portuguese.stringFor("application.title"));
+      Assertions.assertEquals("Ol\u00E1!", portuguese.stringFor("application.greetings.hello"));
+      Assertions.assertEquals(Optional.empty(), portuguese.optionalString("application.missing"));
+    }
+  }
+
+  @Test
+  public void testSameMappingsAsYaml(@TempDir Path tempDir) throws IOException {
+    var source = tempDir.resolve("sv_SE.yaml");
+    try (var in = getClass().getClassLoader().getResourceAsStream("sv_SE.yaml")) {
+      Files.copy(in, source);
+    }
+    var target = tempDir.resolve("compiled").resolve("sv_SE" + BundleCompiler.EXTENSION);
+    BundleCompiler.compile(source, target, StandardCharsets.UTF_8);
+
+    YamlResourceBundle yaml;
+    try (var reader = new InputStreamReader(Files.newInputStream(source), StandardCharsets.UTF_8)) {
+      yaml = new YamlResourceBundle(reader, Locale.of("sv", "SE"), StandardCharsets.UTF_8);
+    }
+    var binary = new BinaryResourceBundle(ByteBuffer.wrap(Files.readAllBytes(target)), Locale.of("sv", "SE"));
+
+    Assertions.assertEquals(yaml.asMap(), binary.asMap());
+    Assertions.assertEquals("God kv\u00E4ll", binary.stringFor("application.greetings.goodEvening"));
+  }
+
+  @Test
+  public void testMappedCompiledBundle() throws URISyntaxException {
+    var url = getClass().getClassLoader().getResource("binary/messages.ojfb");
+    Assertions.assertNotNull(url);
+    var buffer = new Loader.MappedFile().loadBuffer(Path.of(url.toURI()).toString());
+    var bundle = new BinaryResourceBundle(buffer, Locale.ENGLISH);
+
+    Assertions.assertEquals("Hello!", bundle.stringFor("application.greetings.hello"));
+  }
+
+  @Test
+  public void testRoundTripWithCollidingHashes() throws IOException {
+    var resources = new HashMap<String, String>();
+    for (int i = 0; i < 1_000; i++) {
+      resources.put("key." + i, "value " + (i % 10));
+    }
+    // "Aa" and "BB" share the same String hash code
+    resources.put("Aa", "first");
+    resources.put("BB", "second");
+    resources.put("empty", "");
+
+    var out = new ByteArrayOutputStream();
+    BinaryBundleWriter.write(resources, out);
+    var bundle = new BinaryResourceBundle(ByteBuffer.wrap(out.toByteArray()), Locale.ROOT);
+
+    Assertions.assertEquals(resources, bundle.asMap());
+    Assertions.assertEquals("first", bundle.stringFor("Aa"));
+    Assertions.assertEquals("second", bundle.stringFor("BB"));
+    Assertions.assertEquals("", bundle.stringFor("empty"));
+    Assertions.assertEquals(Optional.empty(), bundle.optionalString("Ab"));
+  }
+
+  @Test
+  public void testRejectsInvalidData() {
+    var buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new BinaryResourceBundle(buffer, Locale.ROOT));
+    Assertions.assertEquals(Map.of(), emptyBundle().asMap());
+  }
+
+  @Test
+  public void testRejectsCorruptCount() throws IOException {
+    var out = new ByteArrayOutputStream();
+    BinaryBundleWriter.write(Map.of("key.one", "one", "key.two", "two"), out);
+    var bytes = out.toByteArray();
+
+    for (var count : new int[]{-1, Integer.MIN_VALUE, Integer.MAX_VALUE, 1 << 28, bytes.length}) {
+      var corrupt = ByteBuffer.wrap(bytes.clone()).putInt(8, count);
+      Assertions.assertThrows(IllegalArgumentException.class, () -> new BinaryResourceBundle(corrupt, Locale.ROOT),
+          "count " + count);
+    }
+    var truncated = ByteBuffer.wrap(bytes, 0, 12 + 20);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new BinaryResourceBundle(truncated, Locale.ROOT));
+    Assertions.assertEquals(2, new BinaryResourceBundle(ByteBuffer.wrap(bytes), Locale.ROOT).asMap().size());
+  }
+
+  private static BinaryResourceBundle emptyBundle() {
+    var out = new ByteArrayOutputStream();
+    try {
+      BinaryBundleWriter.write(Map.of(), out);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return new BinaryResourceBundle(ByteBuffer.wrap(out.toByteArray()), Locale.ROOT);
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization.yaml;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import systems.terranatal.omnijfx.internationalization.TestBundles;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TestLazyYamlResourceBundle {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"sv_SE.yaml", "pt_BR.formatted.yaml", "UTF-16/ja_JP.yaml", "UTF-16/uk_UA.formatted.yaml"})
+  public void testSameResourcesAsEager(String file) throws IOException {
+    var charset = file.startsWith("UTF-16/") ? StandardCharsets.UTF_16 : StandardCharsets.UTF_8;
+    YamlResourceBundle eager;
+    try (var reader = TestBundles.retrieveResource(file, charset)) {
+      eager = new YamlResourceBundle(reader, Locale.ROOT, charset);
+    }
+    try (var reader = TestBundles.retrieveResource(file, charset)) {
+      var lazy = new LazyYamlResourceBundle(reader, Locale.ROOT, charset);
+      eager.asMap().forEach((key, value) -> Assertions.assertEquals(value, lazy.stringFor(key)));
+      Assertions.assertEquals(eager.asMap(), lazy.asMap());
+    }
+  }
+
+  @Test
+  public void testLoadsOnlyRequestedSubtree() throws IOException {
+    var yaml = """
+        title: Lazy
+        count: 5
+        messages:
+          raw:
+            hello: Hello
+          formatted:
+            units: "{0} units"
+        errors:
+          notFound: Not found
+        "screens.main":
+          header: Main
+        """;
+    var bundle = new LazyYamlResourceBundle(new StringReader(yaml), Locale.ROOT, StandardCharsets.UTF_8);
+
+    Assertions.assertEquals(Set.of("messages", "errors", "screens"), bundle.unloadedKeys());
+    Assertions.assertEquals("Lazy", bundle.stringFor("title"));
+    Assertions.assertTrue(bundle.optionalString("count").isEmpty());
+
+    Assertions.assertEquals("{0} units", bundle.stringFor("messages.formatted.units"));
+    Assertions.assertEquals(Set.of("errors", "screens"), bundle.unloadedKeys());
+
+    Assertions.assertEquals("Main", bundle.stringFor("screens.main.header"));
+    Assertions.assertTrue(bundle.optionalString("missing.key").isEmpty());
+    Assertions.assertEquals(Set.of("errors"), bundle.unloadedKeys());
+
+    Assertions.assertEquals("Not found", bundle.asMap().get("errors.notFound"));
+    Assertions.assertTrue(bundle.unloadedKeys().isEmpty());
+  }
+
+  @Test
+  public void testMultipleDocumentsKeepTheirOrder() throws IOException {
+    var yaml = """
+        a:
+          b: first
+        c: plain
+        ---
+        a:
+          b: second
+        c:
+          d: nested
+        """;
+    var bundle = new LazyYamlResourceBundle(new StringReader(yaml), Locale.ROOT, StandardCharsets.UTF_8);
+
+    Assertions.assertEquals("second", bundle.stringFor("a.b"));
+    Assertions.assertEquals("plain", bundle.stringFor("c"));
+    Assertions.assertEquals("nested", bundle.stringFor("c.d"));
+  }
+
+  @Test
+  public void testDottedKeysOverrideEarlierSubtrees() throws IOException {
+    var yaml = """
+        a:
+          b: x
+          c: kept
+        a.b: y
+        a.b.c: deep
+        ab: other
+        """;
+    var lazy = new LazyYamlResourceBundle(new StringReader(yaml), Locale.ROOT, StandardCharsets.UTF_8);
+    var eager = new YamlResourceBundle(new StringReader(yaml), Locale.ROOT, StandardCharsets.UTF_8);
+
+    Assertions.assertEquals("y", lazy.stringFor("a.b"));
+    Assertions.assertEquals("kept", lazy.stringFor("a.c"));
+    Assertions.assertEquals("deep", lazy.stringFor("a.b.c"));
+    Assertions.assertEquals(eager.asMap(), lazy.asMap());
+  }
+
+  @Test
+  public void testDottedKeysOfLaterDocumentsOverrideSubtrees() throws IOException {
+    var yaml = """
+        a.b: first
+        ---
+        a:
+          b: x
+        ---
+        a.b: y
+        "a.c":
+          d: nested
+        ---
+        a:
+          c.d: last
+        """;
+    var lazy = new LazyYamlResourceBundle(new StringReader(yaml), Locale.ROOT, StandardCharsets.UTF_8);
+    var eager = new YamlResourceBundle(new StringReader(yaml), Locale.ROOT, StandardCharsets.UTF_8);
+
+    Assertions.assertEquals(Set.of("a"), lazy.unloadedKeys());
+    Assertions.assertEquals("y", lazy.stringFor("a.b"));
+    Assertions.assertEquals("last", lazy.stringFor("a.c.d"));
+    Assertions.assertEquals(eager.asMap(), lazy.asMap());
+  }
+
+  @Test
+  public void testAliasesAreLoadedEagerly() throws IOException {
+    var yaml = """
+        base: &base
+          greeting: Hi
+        copy: *base
+        """;
+    var bundle = new LazyYamlResourceBundle(new StringReader(yaml), Locale.ROOT, StandardCharsets.UTF_8);
+
+    Assertions.assertTrue(bundle.unloadedKeys().isEmpty());
+    Assertions.assertEquals("Hi", bundle.stringFor("copy.greeting"));
+  }
+
+  @Test
+  public void testConcurrentLookups() throws Exception {
+    var yaml = new StringBuilder();
+    for (int i = 0; i < 50; i++) {
+      yaml.append("ns").append(i).append(":\n");
+      for (int j = 0; j < 20; j++) {
+        yaml.append("  key").append(j).append(": value ").append(i).append('-').append(j).append('\n');
+      }
+    }
+    var bundle = new LazyYamlResourceBundle(new StringReader(yaml.toString()), Locale.ROOT, StandardCharsets.UTF_8);
+
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var futures = new ArrayList<Future<Void>>();
+      for (int t = 0; t < 8; t++) {
+        Callable<Void> task = () -> {
+          for (int i = 0; i < 50; i++) {
+            for (int j = 0; j < 20; j++) {
+              Assertions.assertEquals("value %d-%d".formatted(i, j), bundle.stringFor("ns%d.key%d".formatted(i, j)));
+            }
+          }
+          return null;
+        };
+        futures.add(executor.submit(task));
+      }
+      for (var future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    Assertions.assertTrue(bundle.unloadedKeys().isEmpty());
+    Assertions.assertEquals(1000, bundle.asMap().size());
+  }
+
+  @Test
+  public void testConcurrentLookupsWithFallback() throws Exception {
+    var yaml = new StringBuilder("%TAG !e! tag:yaml.org,2002:\n---\n");
+    for (int i = 0; i < 40; i++) {
+      yaml.append("ns").append(i).append(":\n");
+      for (int j = 0; j < 5; j++) {
+        yaml.append("  key").append(j).append(": value ").append(i).append('-').append(j).append('\n');
+      }
+      // this subtree cannot be parsed without the tag directive, loading it falls back to the whole document
+      yaml.append("tagged").append(i).append(":\n  text: !e!str tagged ").append(i).append('\n');
+    }
+    var threads = 8;
+    var executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int round = 0; round < 200; round++) {
+        var bundle = new LazyYamlResourceBundle(new StringReader(yaml.toString()), Locale.ROOT, StandardCharsets.UTF_8);
+        var start = new CountDownLatch(1);
+        var futures = new ArrayList<Future<Void>>();
+        for (int t = 0; t < threads; t++) {
+          var offset = t;
+          Callable<Void> task = () -> {
+            start.await();
+            for (int n = 0; n < 40; n++) {
+              var i = (n * 7 + offset * 5) % 40;
+              if ((n + offset) % threads == 0) {
+                Assertions.assertEquals("tagged " + i, bundle.stringFor("tagged%d.text".formatted(i)));
+              }
+              Assertions.assertEquals("value %d-%d".formatted(i, offset % 5),
+                  bundle.stringFor("ns%d.key%d".formatted(i, offset % 5)));
+            }
+            return null;
+          };
+          futures.add(executor.submit(task));
+        }
+        start.countDown();
+        for (var future : futures) {
+          future.get();
+        }
+        Assertions.assertTrue(bundle.unloadedKeys().isEmpty());
+        Assertions.assertEquals(240, bundle.asMap().size());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
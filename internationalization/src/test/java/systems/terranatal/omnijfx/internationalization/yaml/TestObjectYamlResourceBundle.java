@@ -1,24 +1,39 @@
 package systems.terranatal.omnijfx.internationalization.yaml;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.error.YAMLException;
 import systems.terranatal.omnijfx.internationalization.TestBundles;
+import systems.terranatal.omnijfx.internationalization.yaml.testdata.BoundSettings;
+import systems.terranatal.omnijfx.internationalization.yaml.testdata.BoundSettings_YamlBinder;
 import systems.terranatal.omnijfx.internationalization.yaml.testdata.Sample;
+import systems.terranatal.omnijfx.internationalization.yaml.testdata.Sample_YamlBinder;
 import systems.terranatal.omnijfx.internationalization.yaml.testdata.SampleWithFormattedMessage;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.EnumMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static systems.terranatal.omnijfx.internationalization.yaml.YamlI18nTestCases.Fields.*;
 
@@ -46,6 +61,136 @@ public class TestObjectYamlResourceBundle {
     }
   }
 
+  @ParameterizedTest
+  @ArgumentsSource(YamlI18nTestCases.class)
+  public void testGeneratedBinderLoading(String file, Charset charset,
+                                         EnumMap<YamlI18nTestCases.Fields, String> references) {
+    try (var reader = TestBundles.retrieveResource(file, charset)) {
+      var deserializer = new ObjectYamlResourceBundle<>(Sample_YamlBinder.INSTANCE);
+
+      var obj = deserializer.loadObject(reader);
+      Assertions.assertNotNull(obj.getApplication().getGreetings());
+      var greetings = obj.getApplication().getGreetings();
+
+      assertEquals(references.get(GOOD_MORNING), greetings.getGoodMorning());
+      assertEquals(references.get(GOOD_AFTERNOON), greetings.getGoodAfternoon());
+      assertEquals(references.get(GOOD_EVENING), greetings.getGoodEvening());
+      assertEquals(references.get(HELLO), greetings.getHello());
+      assertEquals(references.get(FORMAL), greetings.getFormal());
+      assertEquals(references.get(LANGUAGE), obj.getApplication().getLanguage());
+    } catch (Exception e) {
+      fail(e);
+    }
+  }
+
+  @Test
+  public void testGeneratedBinderTypes() {
+    var yaml = """
+        name: settings
+        version: 3
+        beta: true
+        ratio: 0.5
+        theme: DARK
+        screens:
+          main:
+            title: Main
+            labels: [ok, cancel]
+            ignored: value
+          empty: ~
+        matrix:
+          - [1, 2]
+          - [3]
+        """;
+    var deserializer = new ObjectYamlResourceBundle<>(BoundSettings_YamlBinder.INSTANCE);
+    var settings = deserializer.loadObject(new StringReader(yaml));
+
+    assertEquals("settings", settings.getName());
+    assertEquals(3, settings.getVersion());
+    assertTrue(settings.isBeta());
+    assertEquals(0.5, settings.getRatio());
+    assertEquals(BoundSettings.Theme.DARK, settings.getTheme());
+    assertEquals("Main", settings.getScreens().get("main").getTitle());
+    assertEquals(List.of("ok", "cancel"), settings.getScreens().get("main").getLabels());
+    assertTrue(settings.getScreens().containsKey("empty"));
+    assertNull(settings.getScreens().get("empty"));
+    assertEquals(List.of(List.of(1L, 2L), List.of(3L)), settings.getMatrix());
+
+    var partial = deserializer.loadObject(new StringReader("name: partial"));
+    assertEquals(0, partial.getVersion());
+    assertFalse(partial.isBeta());
+    assertNull(partial.getScreens());
+  }
+
+  @Test
+  public void testGeneratedBinderErrors() {
+    var deserializer = new ObjectYamlResourceBundle<>(BoundSettings_YamlBinder.INSTANCE);
+
+    assertThrows(YAMLException.class, () -> deserializer.loadObject(new StringReader("unknown: 1")));
+    assertThrows(YAMLException.class, () -> deserializer.loadObject(new StringReader("version: ~")));
+    assertThrows(YAMLException.class, () -> deserializer.loadObject(new StringReader("version: three")));
+    assertThrows(YAMLException.class, () -> deserializer.loadObject(new StringReader("theme: SEPIA")));
+  }
+
+  @Test
+  public void testConcurrentLoads() throws Exception {
+    var constructor = Sample.makeConstructor(new LoaderOptions());
+    var bundles = List.of(
+        new ObjectYamlResourceBundle<Sample>(Sample.makeConstructor(new LoaderOptions())),
+        // a supplier of a shared constructor was valid before pooling existed, so it must keep working
+        new ObjectYamlResourceBundle<Sample>(() -> constructor),
+        ObjectYamlResourceBundle.<Sample>pooled(() -> constructor),
+        ObjectYamlResourceBundle.<Sample>pooled(() -> Sample.makeConstructor(new LoaderOptions())),
+        ObjectYamlResourceBundle.<Sample>pooled(() -> Sample.makeConstructor(new LoaderOptions()), 2),
+        new ObjectYamlResourceBundle<>(Sample_YamlBinder.INSTANCE));
+
+    try (var executor = Executors.newFixedThreadPool(16)) {
+      for (var bundle : bundles) {
+        var tasks = new ArrayList<Callable<Void>>();
+        for (int i = 0; i < 2000; i++) {
+          var index = i;
+          tasks.add(() -> {
+            if (index % 10 == 9) {
+              // failed loads must not leave a broken parser behind for the next ones
+              assertThrows(YAMLException.class, () -> bundle.loadObject(new StringReader("application: [")));
+            } else {
+              var sample = bundle.loadObject(new StringReader(sampleYaml(index)));
+              assertEquals("language " + index, sample.getApplication().getLanguage());
+              assertEquals("hello " + index, sample.getApplication().getGreetings().getHello());
+            }
+            return null;
+          });
+        }
+        for (var future : executor.invokeAll(tasks)) {
+          future.get();
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testLoadObjects() {
+    var bundle = ObjectYamlResourceBundle.<Sample>pooled(() -> Sample.makeConstructor(new LoaderOptions()));
+    var readers = IntStream.range(0, 200).mapToObj(i -> new StringReader(sampleYaml(i))).toList();
+
+    var samples = bundle.loadObjects(readers);
+
+    assertEquals(readers.size(), samples.size());
+    for (int i = 0; i < samples.size(); i++) {
+      assertEquals("language " + i, samples.get(i).getApplication().getLanguage());
+    }
+    assertThrows(YAMLException.class,
+        () -> bundle.loadObjects(List.of(new StringReader(sampleYaml(0)), new StringReader("application: ["))));
+  }
+
+  private static String sampleYaml(int index) {
+    return """
+        application:
+          language: language %1$d
+          greetings:
+            hello: hello %1$d
+        """.formatted(index);
+  }
+
   @ParameterizedTest
   @ArgumentsSource(FormattedMessageArgumentsSource.class)
   public void testFormattedMessages(String file, Charset charset, String helloWorld,
@@ -2,14 +2,40 @@ package systems.terranatal.omnijfx.internationalization.yaml;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.error.YAMLException;
 import systems.terranatal.omnijfx.internationalization.TestBundles;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestYamlResBundle {
+  private static final String DOCUMENTS = """
+      app:
+        title: First
+        list: [a, b]
+      ---
+      app:
+        title: Second
+        footer: Footer
+      ---
+      app:
+        title: Third
+        list: [c, d]
+      """;
 
   @Test
   public void testLoading() {
@@ -23,4 +49,119 @@ public class TestYamlResBundle {
       Assertions.fail(e);
     }
   }
+
+  @Test
+  public void testFlattenRules() {
+    var node = new LinkedHashMap<String, Object>();
+    node.put("title", "Title");
+    node.put("messages", Map.of("messages", Map.of("hello", "Hello")));
+    node.put("list", List.of("ignored", Map.of("item", "Item"), 42));
+    node.put("number", 7);
+
+    var flat = YamlResourceBundle.flatten(node, "");
+
+    assertEquals(Map.of("title", "Title", "messages.hello", "Hello", "list", "ignored", "list.item", "Item"), flat);
+    assertEquals(Map.of("root.title", "Title"), YamlResourceBundle.flatten(Map.of("title", "Title"), "root"));
+  }
+
+  @Test
+  public void testFlattenDeepNesting() {
+    Object node = "leaf";
+    var expectedKey = new StringBuilder("k0");
+    for (int i = 0; i < 10_000; i++) {
+      node = Map.of("k" + i, node);
+    }
+    for (int i = 1; i < 10_000; i++) {
+      expectedKey.insert(0, "k" + i + ".");
+    }
+
+    var flat = new HashMap<String, String>();
+    YamlResourceBundle.flattenInto(node, "", flat);
+
+    assertEquals(Map.of(expectedKey.toString(), "leaf"), flat);
+  }
+
+  private static YamlResourceBundle load(String content, YamlResourceBundle.MergePolicy policy) {
+    return new YamlResourceBundle(new StringReader(content), Locale.US, StandardCharsets.UTF_8, policy);
+  }
+
+  @Test
+  public void testMergePolicies() {
+    var lastWins = new YamlResourceBundle(new StringReader(DOCUMENTS), Locale.US, StandardCharsets.UTF_8);
+    assertEquals(Map.of("app.title", "Third", "app.list", "d", "app.footer", "Footer"), lastWins.asMap());
+    assertEquals(lastWins.asMap(), load(DOCUMENTS, YamlResourceBundle.MergePolicy.LAST_WINS).asMap());
+
+    var firstWins = load(DOCUMENTS, YamlResourceBundle.MergePolicy.FIRST_WINS);
+    assertEquals(Map.of("app.title", "First", "app.list", "b", "app.footer", "Footer"), firstWins.asMap());
+
+    var e = assertThrows(YAMLException.class, () -> load(DOCUMENTS, YamlResourceBundle.MergePolicy.FAIL));
+    assertTrue(e.getMessage().contains("'app.title'"), e.getMessage());
+    assertTrue(e.getMessage().contains("document 2"), e.getMessage());
+  }
+
+  @Test
+  public void testMergePoliciesWithinDocument() {
+    var content = "app: {list: [a, b]}\n---\napp: {extra: [c, d]}\n";
+    var expected = Map.of("app.list", "b", "app.extra", "d");
+
+    for (var policy : YamlResourceBundle.MergePolicy.values()) {
+      assertEquals(expected, load(content, policy).asMap(), policy.name());
+    }
+    assertEquals(Map.of("a", "1"), load("a: '1'\n---\n---\nb: 2\n", YamlResourceBundle.MergePolicy.FAIL).asMap());
+  }
+
+  @Test
+  public void testEntries() {
+    var entries = new ArrayList<Map.Entry<String, String>>();
+    YamlResourceBundle.entries(new StringReader(DOCUMENTS)).forEachRemaining(entries::add);
+
+    assertEquals(List.of(
+        Map.entry("app.title", "First"), Map.entry("app.list", "a"), Map.entry("app.list", "b"),
+        Map.entry("app.title", "Second"), Map.entry("app.footer", "Footer"),
+        Map.entry("app.title", "Third"), Map.entry("app.list", "c"), Map.entry("app.list", "d")), entries);
+
+    var empty = YamlResourceBundle.entries(new StringReader("---\n---\nnumber: 1\n"));
+    assertFalse(empty.hasNext());
+    assertThrows(NoSuchElementException.class, empty::next);
+  }
+
+  @Test
+  public void testEntriesAreStreamed() {
+    var documents = 10_000;
+    var reader = new Reader() {
+      private final StringBuilder pending = new StringBuilder();
+      private int written;
+      private int read;
+
+      @Override
+      public int read(char[] buffer, int offset, int length) {
+        if (pending.isEmpty()) {
+          if (written == documents) {
+            return -1;
+          }
+          pending.append("---\ndoc").append(written).append(": {value: v").append(written++).append("}\n");
+        }
+        var count = Math.min(length, pending.length());
+        pending.getChars(0, count, buffer, offset);
+        pending.delete(0, count);
+        read += count;
+        return count;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+
+    Iterator<Map.Entry<String, String>> entries = YamlResourceBundle.entries(reader);
+    assertEquals(Map.entry("doc0.value", "v0"), entries.next());
+    assertTrue(reader.read < 16 * 1024, "read " + reader.read + " characters for the first entry");
+
+    int count = 1;
+    while (entries.hasNext()) {
+      assertEquals(Map.entry("doc" + count + ".value", "v" + count), entries.next());
+      count++;
+    }
+    assertEquals(documents, count);
+  }
 }
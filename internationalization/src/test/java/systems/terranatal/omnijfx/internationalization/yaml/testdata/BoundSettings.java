@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024, Rafael Barros Felix de Sousa @ Terranatal Systems
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notice,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright notice,
+ *       this list of conditions and the following disclaimer in the documentation
+ *       and/or other materials provided with the distribution.
+ *     * Neither the name of omnijfx nor the names of its contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package systems.terranatal.omnijfx.internationalization.yaml.testdata;
+
+import systems.terranatal.omnijfx.internationalization.yaml.YamlBound;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@YamlBound
+public class BoundSettings {
+  public enum Theme { LIGHT, DARK }
+
+  @YamlBound(ignoreUnknown = true)
+  public static class Screen {
+    String title;
+    List<String> labels;
+
+    public String getTitle() {
+      return title;
+    }
+
+    public void setTitle(String title) {
+      this.title = title.toUpperCase(Locale.ROOT);
+    }
+
+    public List<String> getLabels() {
+      return labels;
+    }
+  }
+
+  private String name;
+  private int version;
+  private boolean beta;
+  private Double ratio;
+  private Theme theme;
+  private Map<String, Screen> screens;
+  private List<List<Long>> matrix;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public int getVersion() {
+    return version;
+  }
+
+  public void setVersion(int version) {
+    this.version = version;
+  }
+
+  public boolean isBeta() {
+    return beta;
+  }
+
+  public void setBeta(boolean beta) {
+    this.beta = beta;
+  }
+
+  public Double getRatio() {
+    return ratio;
+  }
+
+  public void setRatio(Double ratio) {
+    this.ratio = ratio;
+  }
+
+  public Theme getTheme() {
+    return theme;
+  }
+
+  public void setTheme(Theme theme) {
+    this.theme = theme;
+  }
+
+  public Map<String, Screen> getScreens() {
+    return screens;
+  }
+
+  public void setScreens(Map<String, Screen> screens) {
+    this.screens = screens;
+  }
+
+  public List<List<Long>> getMatrix() {
+    return matrix;
+  }
+
+  public void setMatrix(List<List<Long>> matrix) {
+    this.matrix = matrix;
+  }
+}
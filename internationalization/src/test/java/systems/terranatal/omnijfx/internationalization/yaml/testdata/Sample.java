@@ -33,7 +33,9 @@ package systems.terranatal.omnijfx.internationalization.yaml.testdata;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.TypeDescription;
 import org.yaml.snakeyaml.constructor.Constructor;
+import systems.terranatal.omnijfx.internationalization.yaml.YamlBound;
 
+@YamlBound
 public class Sample {
 
   public static Constructor makeConstructor(LoaderOptions opts) {
@@ -56,6 +58,7 @@ public class Sample {
     this.application = application;
   }
 
+  @YamlBound
   public static class Greetings {
     private String goodMorning;
     private String goodAfternoon;
@@ -104,6 +107,7 @@ public class Sample {
     }
   }
 
+  @YamlBound
   public static class Application {
     private String language;
 
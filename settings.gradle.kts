@@ -35,4 +35,5 @@ rootProject.name = "omnijfx"
 include("jfx")
 include("kfx")
 include("internationalization")
+include("internationalization-processor")
 include("Sandbox")